@@ -0,0 +1,120 @@
+package rocketoptimizer.benchmarks;
+
+import net.sf.openrocket.document.OpenRocketDocument;
+import net.sf.openrocket.file.GeneralRocketLoader;
+import net.sf.openrocket.rocketcomponent.Rocket;
+import net.sf.openrocket.simulation.SimulationOptions;
+import net.sf.openrocket.simulation.listeners.SimulationListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-candidate work on a loaded design: the stability calculation (with the center of
+ * pressure cached and recomputed), one simulation, and a whole evaluation through the optimizer
+ * with its cache, result store and pre-screen turned off so every call simulates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DesignBenchmark {
+    private static final MethodHandle NEW_STABILITY_CALCULATOR = Targets.constructor("StabilityCalculator", Rocket.class);
+    private static final MethodHandle CALCULATE = Targets.method("StabilityCalculator", "calculate");
+    private static final MethodHandle INVALIDATE_AERODYNAMICS = Targets.method("StabilityCalculator", "invalidateAerodynamics");
+    private static final MethodHandle NEW_STEPPER =
+            Targets.constructor("SimulationStepper", Rocket.class, SimulationOptions.class);
+    private static final MethodHandle RUN_SIMULATION =
+            Targets.method("SimulationStepper", "runSimulation", SimulationListener[].class);
+    private static final MethodHandle NEW_OPTIMIZER = Targets.constructor("Optimizer");
+    private static final MethodHandle GET_CONFIG = Targets.method("Optimizer", "getConfig");
+    private static final MethodHandle INITIALIZE = Targets.method("Optimizer", "initialize");
+    private static final MethodHandle GET_PARAMETERS = Targets.method("Optimizer", "getParameters");
+    private static final MethodHandle GET_INITIAL_VALUES = Targets.method("Optimizer", "getInitialValues");
+    private static final MethodHandle START_EVALUATION = Targets.method("Optimizer", "startEvaluation");
+    private static final MethodHandle STOP_EVALUATION = Targets.method("Optimizer", "stopEvaluation");
+    private static final MethodHandle EVALUATE = Targets.method("Optimizer", "evaluateConfigurationWithError",
+            double[].class, List.class, int.class, int.class);
+    private static final int NO_PARACHUTE_CHANGE = -1; // ParachuteRegistry.NONE
+
+    private Rocket rocket;
+    private SimulationOptions options;
+    private Object stabilityCalculator;
+    private Object optimizer;
+    private List<?> parameters;
+    private double[] originalValues;
+
+    @Setup
+    public void setup() throws Throwable {
+        Targets.startOpenRocket();
+        String design = Targets.designPath();
+        OpenRocketDocument document = new GeneralRocketLoader(new File(design)).load();
+        rocket = document.getRocket();
+        options = document.getSimulations().get(0).getOptions();
+        stabilityCalculator = NEW_STABILITY_CALCULATOR.invoke(rocket);
+
+        optimizer = NEW_OPTIMIZER.invoke();
+        Object config = GET_CONFIG.invoke(optimizer);
+        Targets.setField(config, "orkPath", design);
+        Targets.setField(config, "stabilityRange", new double[]{Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY});
+        Targets.setField(config, "altitudeRange", new double[]{Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY});
+        Targets.setField(config, "durationRange", new double[]{Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY});
+        Targets.setField(config, "enabledParams", new HashMap<String, Boolean>());
+        Targets.setField(config, "workerThreads", 1);
+        Targets.setField(config, "evaluationCacheSize", 0);
+        Targets.setField(config, "persistentResults", false);
+        Targets.setField(config, "stabilityPrescreen", false);
+        Targets.setField(config, "earlyExit", false);
+        INITIALIZE.invoke(optimizer);
+        START_EVALUATION.invoke(optimizer);
+
+        parameters = (List<?>) GET_PARAMETERS.invoke(optimizer);
+        @SuppressWarnings("unchecked")
+        Map<String, Double> initialValues = (Map<String, Double>) GET_INITIAL_VALUES.invoke(optimizer);
+        Field name = Targets.type("Optimizer$FinParameter").getDeclaredField("name");
+        name.setAccessible(true);
+        originalValues = new double[parameters.size()];
+        for (int i = 0; i < originalValues.length; i++) {
+            originalValues[i] = initialValues.get((String) name.get(parameters.get(i)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Throwable {
+        STOP_EVALUATION.invoke(optimizer);
+    }
+
+    @Benchmark
+    public double stabilityCached() throws Throwable {
+        return (double) CALCULATE.invoke(stabilityCalculator);
+    }
+
+    @Benchmark
+    public double stabilityRecomputed() throws Throwable {
+        INVALIDATE_AERODYNAMICS.invoke(stabilityCalculator);
+        return (double) CALCULATE.invoke(stabilityCalculator);
+    }
+
+    @Benchmark
+    public Object simulation() throws Throwable {
+        Object stepper = NEW_STEPPER.invoke(rocket, options);
+        return RUN_SIMULATION.invoke(stepper, new SimulationListener[0]);
+    }
+
+    @Benchmark
+    public double evaluateConfigurationWithError() throws Throwable {
+        return (double) EVALUATE.invoke(optimizer, originalValues, parameters, NO_PARACHUTE_CHANGE, NO_PARACHUTE_CHANGE);
+    }
+}
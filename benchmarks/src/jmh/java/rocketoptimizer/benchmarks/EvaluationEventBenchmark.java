@@ -0,0 +1,41 @@
+package rocketoptimizer.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishing one evaluation event, which happens after every evaluation, and the GUI's
+ * conversion of it into the values it shows
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EvaluationEventBenchmark {
+    private static final MethodHandle NEW_EVENT = Targets.constructor("EvaluationEvent", String[].class, double[].class,
+            String.class, String.class, double.class, double.class, double.class, double.class, double.class, boolean.class);
+    private static final MethodHandle TO_MAP = Targets.method("EvaluationEvent", "toMap");
+
+    // The six fin and nose parameters
+    private final String[] parameterNames = {"thickness", "rootChord", "height", "finCount", "noseLength", "noseWallThickness"};
+    private final double[] values = {0.32, 7.45, 5.10, 3.00, 12.80, 0.20};
+
+    @Benchmark
+    public Object publish() throws Throwable {
+        return NEW_EVENT.invoke(parameterNames, values, "Estes PRO-24 Nylon Parachute", "None",
+                1.85, 243.7, 41.25, 6.3, 0.0, false);
+    }
+
+    @Benchmark
+    public Object publishAndConvert() throws Throwable {
+        Object event = NEW_EVENT.invoke(parameterNames, values, "Estes PRO-24 Nylon Parachute", "None",
+                1.85, 243.7, 41.25, 6.3, 0.0, false);
+        return TO_MAP.invoke(event);
+    }
+}
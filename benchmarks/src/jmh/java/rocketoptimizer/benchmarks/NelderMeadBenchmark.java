@@ -0,0 +1,87 @@
+package rocketoptimizer.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A complete Nelder-Mead search on synthetic objectives, so the cost of the search itself is
+ * measured without any simulation behind it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NelderMeadBenchmark {
+    private static final Class<?> OBJECTIVE = Targets.type("Optimizer$ObjectiveFunction");
+    private static final Class<?> LISTENER = Targets.type("OptimizationStrategy$IterationListener");
+    private static final MethodHandle NEW_STRATEGY =
+            Targets.constructor("NelderMeadStrategy", double.class, int.class, boolean.class);
+    private static final MethodHandle MINIMIZE = Targets.method("NelderMeadStrategy", "minimize",
+            OBJECTIVE, double[].class, double[].class, double[].class, LISTENER);
+
+    @Param({"sphere", "rosenbrock"})
+    public String function;
+
+    @Param({"2", "6"})
+    public int dimensions;
+
+    private Object strategy;
+    private Object objective;
+    private double[] start;
+    private double[] lower;
+    private double[] upper;
+
+    @Setup
+    public void setup() throws Throwable {
+        strategy = NEW_STRATEGY.invoke(1e-4, 100, false); // Optimizer's tolerance and iteration cap
+        objective = objective("rosenbrock".equals(function) ? "rosenbrock" : "sphere");
+        start = new double[dimensions];
+        Arrays.fill(start, 3.0);
+        lower = new double[dimensions];
+        Arrays.fill(lower, -5.0);
+        upper = new double[dimensions];
+        Arrays.fill(upper, 5.0);
+    }
+
+    @Benchmark
+    public Object minimize() throws Throwable {
+        return MINIMIZE.invoke(strategy, objective, start, lower, upper, null);
+    }
+
+    // A real ObjectiveFunction implementation (not a reflective proxy) around one of the functions below
+    private static Object objective(String name) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodType signature = MethodType.methodType(double.class, double[].class);
+        MethodHandle implementation = lookup.findStatic(NelderMeadBenchmark.class, name, signature);
+        return LambdaMetafactory.metafactory(lookup, "evaluate", MethodType.methodType(OBJECTIVE),
+                signature, implementation, signature).getTarget().invoke();
+    }
+
+    static double sphere(double[] x) {
+        double sum = 0;
+        for (double v : x) sum += v * v;
+        return sum;
+    }
+
+    static double rosenbrock(double[] x) {
+        double sum = 0;
+        for (int i = 0; i + 1 < x.length; i++) {
+            double a = x[i + 1] - x[i] * x[i];
+            double b = 1 - x[i];
+            sum += 100 * a * a + b * b;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,54 @@
+package rocketoptimizer.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looking up parachute presets by display name, as the optimizer does for every parachute
+ * combination. Names are visited in a fixed shuffled order, so neighbouring lookups do not
+ * share cache lines any more than real ones do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParachuteLookupBenchmark {
+    private static final MethodHandle REGISTRY = Targets.method("ParachuteRegistry", "get");
+    private static final MethodHandle DISPLAY_NAMES = Targets.method("ParachuteRegistry", "getDisplayNames");
+    private static final MethodHandle FIND_PRESET =
+            Targets.method("ParachuteHelper", "findPresetByDisplayName", String.class);
+
+    private String[] names;
+    private int next;
+
+    @Setup
+    public void setup() throws Throwable {
+        Targets.startOpenRocket();
+        List<?> displayNames = (List<?>) DISPLAY_NAMES.invoke(REGISTRY.invoke());
+        if (displayNames.isEmpty()) {
+            throw new IllegalStateException("The preset database has no parachutes");
+        }
+        List<String> shuffled = new ArrayList<>();
+        for (Object name : displayNames) shuffled.add((String) name);
+        Collections.shuffle(shuffled, new Random(42));
+        names = shuffled.toArray(new String[0]);
+    }
+
+    @Benchmark
+    public Object findPresetByDisplayName() throws Throwable {
+        String name = names[next];
+        next = next + 1 == names.length ? 0 : next + 1;
+        return FIND_PRESET.invoke(name);
+    }
+}
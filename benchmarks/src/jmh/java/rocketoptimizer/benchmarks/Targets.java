@@ -0,0 +1,77 @@
+package rocketoptimizer.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Access to the optimizer's classes, which live in the unnamed package and so cannot be named
+ * from benchmark code (JMH needs a named package). Benchmarks keep the handles in static final
+ * fields, where the JIT treats them as constants and the calls cost the same as direct ones.
+ */
+final class Targets {
+    private Targets() {}
+
+    static Class<?> type(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Optimizer class not on the class path: " + name, e);
+        }
+    }
+
+    /**
+     * Handle to a method of any visibility
+     */
+    static MethodHandle method(String className, String name, Class<?>... parameterTypes) {
+        try {
+            Method method = type(className).getDeclaredMethod(name, parameterTypes);
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Benchmark target missing: " + className + "." + name, e);
+        }
+    }
+
+    static MethodHandle constructor(String className, Class<?>... parameterTypes) {
+        try {
+            Constructor<?> constructor = type(className).getDeclaredConstructor(parameterTypes);
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Benchmark target missing: new " + className, e);
+        }
+    }
+
+    static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Benchmark target missing: field " + name, e);
+        }
+    }
+
+    /**
+     * The design named by -Dbenchmark.ork
+     */
+    static String designPath() {
+        String path = System.getProperty("benchmark.ork");
+        if (path == null || !new java.io.File(path).isFile()) {
+            throw new IllegalStateException("No design to benchmark; pass -Pork=path/to/design.ork or add benchmarks/sample.ork");
+        }
+        return path;
+    }
+
+    private static volatile boolean openRocketStarted;
+
+    static synchronized void startOpenRocket() throws Throwable {
+        if (!openRocketStarted) {
+            method("OptimizerCLI", "startOpenRocket").invoke();
+            openRocketStarted = true;
+        }
+    }
+}
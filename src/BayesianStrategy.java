@@ -0,0 +1,307 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Bayesian optimization for expensive objectives. A Gaussian-process surrogate (squared
+ * exponential kernel, length scale picked by marginal likelihood) is fitted to every point
+ * evaluated so far, and each round proposes a batch of points that maximize expected
+ * improvement. The batch is built with the "kriging believer" heuristic: after a point is
+ * chosen its predicted value is added as if observed, which pushes the next pick elsewhere.
+ *
+ * It spends a little CPU per round on the surrogate to save simulations, so it usually
+ * needs far fewer evaluations than Nelder-Mead for a comparable result.
+ */
+public class BayesianStrategy implements OptimizationStrategy {
+    private static final double[] LENGTH_SCALES = {0.05, 0.1, 0.2, 0.35, 0.5, 1.0}; // In normalized coordinates
+    private static final double NOISE = 1e-6;       // Nugget; candidates are quantized, so near-duplicates occur
+    private static final int RANDOM_CANDIDATES = 1000;
+    private static final int LOCAL_CANDIDATES = 500; // Perturbations of the best points seen so far
+    private static final double LOCAL_SPREAD = 0.05;
+
+    private final int rounds;
+    private final int batchSize;
+    private final double tolerance;
+    private final Random random;
+
+    /**
+     * @param rounds Number of proposal rounds after the initial design
+     * @param batchSize Points proposed (and evaluated in parallel) per round
+     * @param tolerance Stop once the best expected improvement, in units of the observed spread, drops below this
+     */
+    public BayesianStrategy(int rounds, int batchSize, double tolerance, Random random) {
+        this.rounds = rounds;
+        this.batchSize = Math.max(1, batchSize);
+        this.tolerance = tolerance;
+        this.random = random;
+    }
+
+    @Override
+    public int getMaxIterations() {
+        return rounds + 1; // The initial design counts as the first iteration
+    }
+
+    @Override
+    public double[] minimize(Optimizer.ObjectiveFunction objective, double[] initialGuess,
+                             double[] lower, double[] upper, IterationListener listener) {
+        int n = initialGuess.length;
+        List<double[]> xs = new ArrayList<>(); // Normalized coordinates
+        List<Double> ys = new ArrayList<>();
+
+        // Initial design: the original point plus a Latin hypercube over the box
+        if (listener != null) {
+            listener.iterationStarted(0);
+        }
+        int designSize = Math.max(2 * n + 1, batchSize) - 1;
+        double[] unitLower = new double[n];
+        double[] unitUpper = new double[n];
+        Arrays.fill(unitUpper, 1.0);
+        List<double[]> design = new ArrayList<>();
+        double[] start = new double[n];
+        for (int i = 0; i < n; i++) start[i] = SearchBox.clamp01(SearchBox.normalize(initialGuess[i], lower[i], upper[i]));
+        design.add(start);
+        design.addAll(Arrays.asList(LatinHypercube.sample(designSize, unitLower, unitUpper, random)));
+        evaluate(objective, design, lower, upper, xs, ys);
+
+        for (int round = 1; round <= rounds; round++) {
+            if (listener != null) {
+                listener.iterationStarted(round);
+            }
+            Surrogate surrogate = Surrogate.fit(xs, transform(ys));
+            double bestObserved = surrogate.bestY();
+            List<double[]> batch = new ArrayList<>();
+            double firstImprovement = 0;
+            for (int k = 0; k < batchSize; k++) {
+                double[] candidate = maximizeExpectedImprovement(surrogate, bestObserved, xs, ys, n);
+                double improvement = surrogate.expectedImprovement(candidate, bestObserved);
+                if (k == 0) firstImprovement = improvement;
+                batch.add(candidate);
+                // Believe the prediction so the next pick looks elsewhere
+                surrogate = surrogate.with(candidate, surrogate.mean(candidate));
+            }
+            if (firstImprovement < tolerance) {
+                break; // The surrogate expects nothing more worth simulating
+            }
+            evaluate(objective, batch, lower, upper, xs, ys);
+        }
+
+        int bestIndex = 0;
+        for (int i = 1; i < ys.size(); i++) {
+            if (ys.get(i) < ys.get(bestIndex)) bestIndex = i;
+        }
+        return SearchBox.denormalize(xs.get(bestIndex), lower, upper);
+    }
+
+    private static void evaluate(Optimizer.ObjectiveFunction objective, List<double[]> unitPoints,
+                                 double[] lower, double[] upper, List<double[]> xs, List<Double> ys) {
+        double[][] points = new double[unitPoints.size()][];
+        for (int i = 0; i < points.length; i++) points[i] = SearchBox.denormalize(unitPoints.get(i), lower, upper);
+        double[] values = objective.evaluateBatch(points);
+        for (int i = 0; i < values.length; i++) {
+            xs.add(unitPoints.get(i));
+            ys.add(values[i]);
+        }
+    }
+
+    // Compress penalties (errors in the thousands, or MAX_VALUE for failures) so they don't
+    // swamp the kernel fit: log scale, with failures set just above the worst real error
+    private static double[] transform(List<Double> ys) {
+        double worst = 0;
+        for (double y : ys) {
+            if (y < Double.MAX_VALUE && !Double.isNaN(y)) worst = Math.max(worst, y);
+        }
+        double[] out = new double[ys.size()];
+        for (int i = 0; i < out.length; i++) {
+            double y = ys.get(i);
+            out[i] = Math.log1p(y < Double.MAX_VALUE && !Double.isNaN(y) ? Math.max(0, y) : 2 * worst + 1);
+        }
+        return out;
+    }
+
+    // Best of random candidates over the box and local perturbations around the best points
+    private double[] maximizeExpectedImprovement(Surrogate surrogate, double bestObserved,
+                                                 List<double[]> xs, List<Double> ys, int n) {
+        Integer[] order = new Integer[ys.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(ys.get(a), ys.get(b)));
+        int elite = Math.min(5, order.length);
+
+        double[] best = null;
+        double bestImprovement = -1;
+        for (int c = 0; c < RANDOM_CANDIDATES + LOCAL_CANDIDATES; c++) {
+            double[] candidate = new double[n];
+            if (c < RANDOM_CANDIDATES) {
+                for (int i = 0; i < n; i++) candidate[i] = random.nextDouble();
+            } else {
+                double[] center = xs.get(order[random.nextInt(elite)]);
+                for (int i = 0; i < n; i++) candidate[i] = SearchBox.clamp01(center[i] + LOCAL_SPREAD * random.nextGaussian());
+            }
+            double improvement = surrogate.expectedImprovement(candidate, bestObserved);
+            if (improvement > bestImprovement) {
+                bestImprovement = improvement;
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Zero-mean GP on standardized targets, with the Cholesky factor of the kernel matrix
+     */
+    private static final class Surrogate {
+        final List<double[]> xs;
+        final double[] ys;       // Transformed, unstandardized
+        final double lengthScale;
+        final double yMean;
+        final double yScale;
+        final double[][] chol;
+        final double[] alpha;    // K^-1 * standardized y
+
+        private Surrogate(List<double[]> xs, double[] ys, double lengthScale, double yMean, double yScale) {
+            this.xs = xs;
+            this.ys = ys;
+            this.lengthScale = lengthScale;
+            this.yMean = yMean;
+            this.yScale = yScale;
+            int m = xs.size();
+            double[][] k = new double[m][m];
+            for (int i = 0; i < m; i++) {
+                for (int j = 0; j <= i; j++) {
+                    k[i][j] = k[j][i] = kernel(xs.get(i), xs.get(j), lengthScale) + (i == j ? NOISE : 0);
+                }
+            }
+            chol = cholesky(k);
+            double[] standardized = new double[m];
+            for (int i = 0; i < m; i++) standardized[i] = (ys[i] - yMean) / yScale;
+            alpha = backSolve(chol, forwardSolve(chol, standardized));
+        }
+
+        // Pick the length scale with the highest log marginal likelihood
+        static Surrogate fit(List<double[]> xs, double[] ys) {
+            double mean = 0;
+            for (double y : ys) mean += y;
+            mean /= ys.length;
+            double variance = 0;
+            for (double y : ys) variance += (y - mean) * (y - mean);
+            double scale = Math.sqrt(variance / ys.length);
+            if (scale < 1e-12) scale = 1.0;
+
+            Surrogate best = null;
+            double bestLikelihood = Double.NEGATIVE_INFINITY;
+            for (double lengthScale : LENGTH_SCALES) {
+                Surrogate candidate = new Surrogate(new ArrayList<>(xs), ys, lengthScale, mean, scale);
+                double likelihood = candidate.logLikelihood();
+                if (best == null || likelihood > bestLikelihood) {
+                    best = candidate;
+                    bestLikelihood = likelihood;
+                }
+            }
+            return best;
+        }
+
+        Surrogate with(double[] x, double transformedY) {
+            List<double[]> moreXs = new ArrayList<>(xs);
+            moreXs.add(x);
+            double[] moreYs = Arrays.copyOf(ys, ys.length + 1);
+            moreYs[ys.length] = transformedY;
+            return new Surrogate(moreXs, moreYs, lengthScale, yMean, yScale);
+        }
+
+        double bestY() {
+            double best = Double.MAX_VALUE;
+            for (double y : ys) best = Math.min(best, y);
+            return best;
+        }
+
+        double mean(double[] x) {
+            double sum = 0;
+            for (int i = 0; i < xs.size(); i++) sum += kernel(x, xs.get(i), lengthScale) * alpha[i];
+            return yMean + yScale * sum;
+        }
+
+        // Expected improvement below bestY, in units of yScale
+        double expectedImprovement(double[] x, double bestY) {
+            int m = xs.size();
+            double[] kx = new double[m];
+            double mu = 0;
+            for (int i = 0; i < m; i++) {
+                kx[i] = kernel(x, xs.get(i), lengthScale);
+                mu += kx[i] * alpha[i];
+            }
+            double[] v = forwardSolve(chol, kx);
+            double variance = 1.0;
+            for (double vi : v) variance -= vi * vi;
+            double sigma = Math.sqrt(Math.max(variance, 1e-12));
+            double gap = (bestY - yMean) / yScale - mu;
+            double z = gap / sigma;
+            return gap * normalCdf(z) + sigma * normalPdf(z);
+        }
+
+        double logLikelihood() {
+            double fit = 0;
+            for (int i = 0; i < alpha.length; i++) fit += ((ys[i] - yMean) / yScale) * alpha[i];
+            double logDet = 0;
+            for (int i = 0; i < chol.length; i++) logDet += Math.log(chol[i][i]);
+            return -0.5 * fit - logDet;
+        }
+    }
+
+    private static double kernel(double[] a, double[] b, double lengthScale) {
+        double distance = 0;
+        for (int i = 0; i < a.length; i++) distance += (a[i] - b[i]) * (a[i] - b[i]);
+        return Math.exp(-distance / (2 * lengthScale * lengthScale));
+    }
+
+    private static double[][] cholesky(double[][] a) {
+        int m = a.length;
+        double[][] l = new double[m][m];
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j <= i; j++) {
+                double sum = a[i][j];
+                for (int k = 0; k < j; k++) sum -= l[i][k] * l[j][k];
+                if (i == j) {
+                    l[i][i] = Math.sqrt(Math.max(sum, 1e-10)); // Clamped against round-off on near-duplicates
+                } else {
+                    l[i][j] = sum / l[j][j];
+                }
+            }
+        }
+        return l;
+    }
+
+    // Solve L * x = b
+    private static double[] forwardSolve(double[][] l, double[] b) {
+        double[] x = new double[b.length];
+        for (int i = 0; i < b.length; i++) {
+            double sum = b[i];
+            for (int k = 0; k < i; k++) sum -= l[i][k] * x[k];
+            x[i] = sum / l[i][i];
+        }
+        return x;
+    }
+
+    // Solve L^T * x = b
+    private static double[] backSolve(double[][] l, double[] b) {
+        double[] x = new double[b.length];
+        for (int i = b.length - 1; i >= 0; i--) {
+            double sum = b[i];
+            for (int k = i + 1; k < b.length; k++) sum -= l[k][i] * x[k];
+            x[i] = sum / l[i][i];
+        }
+        return x;
+    }
+
+    private static double normalPdf(double z) {
+        return Math.exp(-0.5 * z * z) / Math.sqrt(2 * Math.PI);
+    }
+
+    // Abramowitz and Stegun 7.1.26, accurate to about 1e-7
+    private static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * x);
+        double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027 + t * 1.061405429))))
+                * Math.exp(-x * x);
+        return z >= 0 ? 0.5 * (1 + erf) : 0.5 * (1 - erf);
+    }
+}
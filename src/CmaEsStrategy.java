@@ -0,0 +1,221 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Covariance matrix adaptation evolution strategy, (mu/mu_w, lambda) with rank-one and
+ * rank-mu updates. The search runs in coordinates normalized to the search box, and each
+ * generation is evaluated as one batch. It adapts its step size and search directions to
+ * the objective, so it copes with the multimodal altitude/duration landscape better than a
+ * single simplex.
+ */
+public class CmaEsStrategy implements OptimizationStrategy {
+    private static final double INITIAL_SIGMA = 0.3; // Fraction of the search box
+    private static final double MIN_SIGMA = 1e-6;
+
+    private final int maxGenerations;
+    private final int minPopulation;
+    private final double tolerance;
+    private final Random random;
+
+    /**
+     * @param minPopulation Lower bound on the generation size, e.g. the number of parallel workers
+     */
+    public CmaEsStrategy(int maxGenerations, int minPopulation, double tolerance, Random random) {
+        this.maxGenerations = maxGenerations;
+        this.minPopulation = minPopulation;
+        this.tolerance = tolerance;
+        this.random = random;
+    }
+
+    @Override
+    public int getMaxIterations() {
+        return maxGenerations;
+    }
+
+    @Override
+    public double[] minimize(Optimizer.ObjectiveFunction objective, double[] initialGuess,
+                             double[] lower, double[] upper, IterationListener listener) {
+        int n = initialGuess.length;
+        int lambda = Math.max(4 + (int) (3 * Math.log(n)), minPopulation);
+        int mu = lambda / 2;
+
+        // Recombination weights
+        double[] weights = new double[mu];
+        double weightSum = 0;
+        for (int i = 0; i < mu; i++) {
+            weights[i] = Math.log(mu + 0.5) - Math.log(i + 1);
+            weightSum += weights[i];
+        }
+        double weightSquares = 0;
+        for (int i = 0; i < mu; i++) {
+            weights[i] /= weightSum;
+            weightSquares += weights[i] * weights[i];
+        }
+        double muEff = 1 / weightSquares;
+
+        // Adaptation constants
+        double cc = (4 + muEff / n) / (n + 4 + 2 * muEff / n);
+        double cs = (muEff + 2) / (n + muEff + 5);
+        double c1 = 2 / ((n + 1.3) * (n + 1.3) + muEff);
+        double cmu = Math.min(1 - c1, 2 * (muEff - 2 + 1 / muEff) / ((n + 2) * (n + 2) + muEff));
+        double damps = 1 + 2 * Math.max(0, Math.sqrt((muEff - 1) / (n + 1)) - 1) + cs;
+        double chiN = Math.sqrt(n) * (1 - 1.0 / (4 * n) + 1.0 / (21 * n * n));
+
+        double[] mean = new double[n];
+        for (int i = 0; i < n; i++) {
+            mean[i] = SearchBox.clamp01(SearchBox.normalize(initialGuess[i], lower[i], upper[i]));
+        }
+        double sigma = INITIAL_SIGMA;
+        double[] pc = new double[n];
+        double[] ps = new double[n];
+        double[][] c = identity(n);
+        double[][] b = identity(n);
+        double[] d = new double[n];
+        Arrays.fill(d, 1.0);
+
+        double[] bestPoint = initialGuess.clone();
+        double bestValue = Double.MAX_VALUE;
+
+        for (int generation = 0; generation < maxGenerations; generation++) {
+            if (listener != null) {
+                listener.iterationStarted(generation);
+            }
+
+            // Sample the generation: y = B * D * z, u = mean + sigma * y
+            double[][] ys = new double[lambda][n];
+            double[][] us = new double[lambda][n];
+            double[][] points = new double[lambda][];
+            for (int k = 0; k < lambda; k++) {
+                double[] z = new double[n];
+                for (int i = 0; i < n; i++) z[i] = random.nextGaussian();
+                for (int i = 0; i < n; i++) {
+                    double sum = 0;
+                    for (int j = 0; j < n; j++) sum += b[i][j] * d[j] * z[j];
+                    // Points outside the box are repaired onto it; the step actually taken is what adapts
+                    us[k][i] = SearchBox.clamp01(mean[i] + sigma * sum);
+                    ys[k][i] = (us[k][i] - mean[i]) / sigma;
+                }
+                points[k] = SearchBox.denormalize(us[k], lower, upper);
+            }
+            double[] values = objective.evaluateBatch(points);
+
+            Integer[] order = new Integer[lambda];
+            for (int k = 0; k < lambda; k++) order[k] = k;
+            Arrays.sort(order, Comparator.comparingDouble(k -> values[k]));
+            if (values[order[0]] < bestValue) {
+                bestValue = values[order[0]];
+                bestPoint = points[order[0]];
+            }
+
+            // Move the mean to the weighted average of the best mu samples
+            double[] yw = new double[n];
+            for (int i = 0; i < mu; i++) {
+                for (int j = 0; j < n; j++) yw[j] += weights[i] * ys[order[i]][j];
+            }
+            for (int j = 0; j < n; j++) mean[j] = SearchBox.clamp01(mean[j] + sigma * yw[j]);
+
+            // Step size path uses C^-1/2 * yw = B * D^-1 * B^T * yw
+            double[] invSqrtYw = new double[n];
+            double[] bty = new double[n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) bty[i] += b[j][i] * yw[j];
+                bty[i] /= d[i];
+            }
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) invSqrtYw[i] += b[i][j] * bty[j];
+            }
+            double psNorm = 0;
+            for (int i = 0; i < n; i++) {
+                ps[i] = (1 - cs) * ps[i] + Math.sqrt(cs * (2 - cs) * muEff) * invSqrtYw[i];
+                psNorm += ps[i] * ps[i];
+            }
+            psNorm = Math.sqrt(psNorm);
+            boolean hsig = psNorm / Math.sqrt(1 - Math.pow(1 - cs, 2 * (generation + 1))) / chiN < 1.4 + 2.0 / (n + 1);
+            for (int i = 0; i < n; i++) {
+                pc[i] = (1 - cc) * pc[i] + (hsig ? Math.sqrt(cc * (2 - cc) * muEff) * yw[i] : 0);
+            }
+
+            // Covariance update: rank-one (evolution path) plus rank-mu (selected steps)
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j <= i; j++) {
+                    double rankMu = 0;
+                    for (int k = 0; k < mu; k++) rankMu += weights[k] * ys[order[k]][i] * ys[order[k]][j];
+                    double value = (1 - c1 - cmu) * c[i][j]
+                            + c1 * (pc[i] * pc[j] + (hsig ? 0 : cc * (2 - cc) * c[i][j]))
+                            + cmu * rankMu;
+                    c[i][j] = value;
+                    c[j][i] = value;
+                }
+            }
+            sigma *= Math.exp((cs / damps) * (psNorm / chiN - 1));
+            sigma = Math.min(sigma, 1.0);
+
+            // Decompose C = B * D^2 * B^T
+            double[] eigenvalues = new double[n];
+            jacobiEigen(c, b, eigenvalues);
+            for (int i = 0; i < n; i++) d[i] = Math.sqrt(Math.max(eigenvalues[i], 1e-20));
+
+            double spread = values[order[lambda - 1]] - values[order[0]];
+            double maxStd = 0;
+            for (int i = 0; i < n; i++) maxStd = Math.max(maxStd, sigma * d[i]);
+            if (maxStd < MIN_SIGMA || (spread < tolerance && values[order[0]] < Double.MAX_VALUE)) {
+                break;
+            }
+        }
+        return bestPoint;
+    }
+
+    private static double[][] identity(int n) {
+        double[][] m = new double[n][n];
+        for (int i = 0; i < n; i++) m[i][i] = 1.0;
+        return m;
+    }
+
+    // Cyclic Jacobi rotations; plenty for the handful of dimensions optimized here
+    private static void jacobiEigen(double[][] matrix, double[][] vectors, double[] values) {
+        int n = matrix.length;
+        double[][] a = new double[n][];
+        for (int i = 0; i < n; i++) a[i] = matrix[i].clone();
+        for (int i = 0; i < n; i++) {
+            Arrays.fill(vectors[i], 0.0);
+            vectors[i][i] = 1.0;
+        }
+        for (int sweep = 0; sweep < 50; sweep++) {
+            double offDiagonal = 0;
+            for (int p = 0; p < n; p++) {
+                for (int q = p + 1; q < n; q++) offDiagonal += a[p][q] * a[p][q];
+            }
+            if (offDiagonal < 1e-22) break;
+            for (int p = 0; p < n; p++) {
+                for (int q = p + 1; q < n; q++) {
+                    if (Math.abs(a[p][q]) < 1e-300) continue;
+                    double theta = (a[q][q] - a[p][p]) / (2 * a[p][q]);
+                    double t = Math.signum(theta) / (Math.abs(theta) + Math.sqrt(theta * theta + 1));
+                    if (theta == 0) t = 1;
+                    double cos = 1 / Math.sqrt(t * t + 1);
+                    double sin = t * cos;
+                    for (int k = 0; k < n; k++) {
+                        double akp = a[k][p];
+                        double akq = a[k][q];
+                        a[k][p] = cos * akp - sin * akq;
+                        a[k][q] = sin * akp + cos * akq;
+                    }
+                    for (int k = 0; k < n; k++) {
+                        double apk = a[p][k];
+                        double aqk = a[q][k];
+                        a[p][k] = cos * apk - sin * aqk;
+                        a[q][k] = sin * apk + cos * aqk;
+                    }
+                    for (int k = 0; k < n; k++) {
+                        double vkp = vectors[k][p];
+                        double vkq = vectors[k][q];
+                        vectors[k][p] = cos * vkp - sin * vkq;
+                        vectors[k][q] = sin * vkp + cos * vkq;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) values[i] = a[i][i];
+    }
+}
@@ -0,0 +1,46 @@
+import javax.swing.Timer;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Hands the latest of a stream of values to a consumer on the Swing event thread, at most once
+ * per interval. Values submitted in between replace each other, so the event thread does the same
+ * work whether the optimizer evaluates ten candidates a second or ten thousand.
+ */
+public class CoalescingUpdater<T> {
+    private final AtomicReference<T> pending = new AtomicReference<>();
+    private final Consumer<T> consumer;
+    private final Timer timer;
+
+    public CoalescingUpdater(int intervalMillis, Consumer<T> consumer) {
+        this.consumer = consumer;
+        this.timer = new Timer(intervalMillis, e -> flush());
+        this.timer.setCoalesce(true);
+    }
+
+    /**
+     * Replace the pending value; may be called from any thread
+     */
+    public void submit(T value) {
+        pending.set(value);
+    }
+
+    public void start() {
+        timer.start();
+    }
+
+    /**
+     * Stop the timer and deliver the value still pending, if any; call on the event thread
+     */
+    public void stop() {
+        timer.stop();
+        flush();
+    }
+
+    private void flush() {
+        T value = pending.getAndSet(null);
+        if (value != null) {
+            consumer.accept(value);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+import net.sf.openrocket.simulation.FlightEvent;
+import net.sf.openrocket.simulation.SimulationStatus;
+import net.sf.openrocket.simulation.exception.SimulationException;
+import net.sf.openrocket.simulation.listeners.AbstractSimulationListener;
+
+/**
+ * Watches for the point where every recovery device is deployed and the descent has settled
+ * at terminal velocity, and predicts the flight time from there with a {@link DescentModel}.
+ * Unless it is validating, it then ends the simulation. Only the first flight branch (the
+ * sustainer) is watched.
+ */
+public class DescentCutoffListener extends AbstractSimulationListener {
+    private final DescentModel model;
+    private final int recoveryDevices;
+    private final boolean stop;
+
+    private final DescentModel.DescentRateTracker descent = new DescentModel.DescentRateTracker();
+
+    private SimulationStatus primary;
+    private double cutoffTime;
+    private double predictedFlightTime;
+
+    /**
+     * @param stop Whether to end the simulation at the cutoff, or only record the prediction
+     */
+    public DescentCutoffListener(DescentModel model, int recoveryDevices, boolean stop) {
+        this.model = model;
+        this.recoveryDevices = recoveryDevices;
+        this.stop = stop;
+    }
+
+    @Override
+    public void startSimulation(SimulationStatus status) throws SimulationException {
+        primary = null;
+        descent.reset();
+        cutoffTime = Double.NaN;
+        predictedFlightTime = Double.NaN;
+    }
+
+    @Override
+    public void postStep(SimulationStatus status) throws SimulationException {
+        if (!Double.isNaN(predictedFlightTime) || recoveryDevices == 0) return;
+        if (primary == null) primary = status;
+        if (status != primary) return; // Booster branch
+
+        double time = status.getSimulationTime();
+        double verticalSpeed = status.getRocketVelocity().z;
+        if (!status.isApogeeReached() || verticalSpeed >= 0
+                || status.getDeployedRecoveryDevices().size() < recoveryDevices) {
+            return;
+        }
+        double descentRate = -verticalSpeed;
+        descent.update(time, descentRate);
+        if (!descent.isSteady()) return;
+
+        cutoffTime = time;
+        predictedFlightTime = time + model.remainingTime(status.getRocketPosition().z, descentRate);
+        if (stop) {
+            status.getEventQueue().add(new FlightEvent(FlightEvent.Type.SIMULATION_END, time));
+        }
+    }
+
+    /**
+     * @return Whether a prediction was made in the last simulation
+     */
+    public boolean hasPrediction() {
+        return !Double.isNaN(predictedFlightTime);
+    }
+
+    public double getPredictedFlightTime() {
+        return predictedFlightTime;
+    }
+
+    /**
+     * @return Whether this listener ends the simulation at the cutoff
+     */
+    public boolean isStopping() {
+        return stop;
+    }
+
+    public double getCutoffTime() {
+        return cutoffTime;
+    }
+}
@@ -0,0 +1,146 @@
+import net.sf.openrocket.models.atmosphere.AtmosphericModel;
+import net.sf.openrocket.simulation.SimulationOptions;
+
+/**
+ * Predicts the rest of a descent under fully deployed recovery devices, so simulations can
+ * stop once the descent has settled. At terminal velocity drag balances weight, so
+ * v(h) = v0 * sqrt(rho(h0) / rho(h)): the observed descent rate fixes the effective drag
+ * area over mass, and the atmosphere model of the simulation options supplies the density.
+ * The time to the ground is integrated over altitude.
+ *
+ * The first simulations of a run, and a sample of later ones, run to the ground anyway and
+ * are compared with the prediction; if any differs by more than the tolerance the model
+ * stops being used for the rest of the run.
+ */
+public class DescentModel {
+    private static final int INTEGRATION_STEPS = 64;
+    private static final int WARMUP_VALIDATIONS = 5;  // Simulations validated before predictions are used
+    private static final int VALIDATION_INTERVAL = 25; // Afterwards, every n-th simulation is validated
+
+    private final AtmosphericModel atmosphere;
+    private final double launchAltitude;
+    private final double tolerance;
+
+    private long requests = 0;
+    private long validations = 0;
+    private long predictions = 0;
+    private double maxRelativeError = 0;
+    private double skippedTime = 0;
+    private boolean rejected = false;
+
+    /**
+     * @param tolerance Largest accepted relative error of the predicted flight time
+     */
+    public DescentModel(SimulationOptions options, double tolerance) {
+        this.atmosphere = options.getAtmosphericModel();
+        this.launchAltitude = options.getLaunchAltitude();
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Seconds to fall from {@code altitude} (above the launch site) to the ground, given a
+     * steady descent rate there
+     */
+    public double remainingTime(double altitude, double descentRate) {
+        if (altitude <= 0) return 0;
+        double densityAtCutoff = density(altitude);
+        double h = altitude / INTEGRATION_STEPS;
+        double sum = 0;
+        // Simpson's rule on dt/dh = 1 / v(h)
+        for (int i = 0; i <= INTEGRATION_STEPS; i++) {
+            double z = i * h;
+            double inverseSpeed = Math.sqrt(density(z) / densityAtCutoff) / descentRate;
+            double weight = (i == 0 || i == INTEGRATION_STEPS) ? 1 : (i % 2 == 1 ? 4 : 2);
+            sum += weight * inverseSpeed;
+        }
+        return sum * h / 3;
+    }
+
+    /**
+     * Follows the descent rate from step to step and tells when it has settled at terminal
+     * velocity. The listeners that cut off and bound the descent both use it, so they agree on
+     * what counts as steady.
+     */
+    public static class DescentRateTracker {
+        private static final double STEADY_DECELERATION = 0.1; // m/s^2; slower changes count as terminal velocity
+
+        private double lastTime;
+        private double lastDescentRate;
+        private double deceleration;
+
+        public DescentRateTracker() {
+            reset();
+        }
+
+        public void reset() {
+            lastTime = Double.NaN;
+            lastDescentRate = Double.NaN;
+            deceleration = Double.NaN;
+        }
+
+        /**
+         * Record the descent rate at a step
+         * @return The deceleration since the last recorded step in m/s^2, NaN on the first
+         */
+        public double update(double time, double descentRate) {
+            deceleration = (lastDescentRate - descentRate) / (time - lastTime);
+            lastTime = time;
+            lastDescentRate = descentRate;
+            return deceleration;
+        }
+
+        /**
+         * @return Whether the descent rate changed by less than the steady threshold over the last step
+         */
+        public boolean isSteady() {
+            return Math.abs(deceleration) < STEADY_DECELERATION;
+        }
+    }
+
+    private double density(double altitude) {
+        return atmosphere.getConditions(launchAltitude + altitude).getDensity();
+    }
+
+    /**
+     * Decide how the next simulation uses the model
+     * @return True to stop at the cutoff and use the prediction, false to simulate to the ground
+     *         (and validate the prediction, unless the model has been rejected)
+     */
+    public synchronized boolean usePrediction() {
+        if (rejected) return false;
+        long n = requests++;
+        return n >= WARMUP_VALIDATIONS && n % VALIDATION_INTERVAL != 0;
+    }
+
+    public synchronized boolean isRejected() {
+        return rejected;
+    }
+
+    /**
+     * Compare a prediction made during a simulation that ran to the ground
+     */
+    public synchronized void validate(double predictedFlightTime, double actualFlightTime) {
+        if (rejected || actualFlightTime <= 0) return;
+        double error = Math.abs(predictedFlightTime - actualFlightTime) / actualFlightTime;
+        validations++;
+        maxRelativeError = Math.max(maxRelativeError, error);
+        if (error > tolerance) {
+            rejected = true;
+        }
+    }
+
+    /**
+     * Count a simulation that was stopped at the cutoff
+     */
+    public synchronized void predicted(double skippedSeconds) {
+        predictions++;
+        skippedTime += skippedSeconds;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d descents predicted (%.0f s of flight not simulated), %d validated, max error %.1f%%%s",
+                predictions, skippedTime, validations, maxRelativeError * 100,
+                rejected ? " - exceeded tolerance, full simulations used" : "");
+    }
+}
@@ -0,0 +1,98 @@
+import java.util.Random;
+
+/**
+ * Differential evolution (DE/rand/1/bin). A population spread over the search box is evolved
+ * by adding scaled differences of members to other members, which lets it jump between basins
+ * of a multimodal objective. Every generation of trial points is evaluated as one batch.
+ */
+public class DifferentialEvolutionStrategy implements OptimizationStrategy {
+    private static final double DIFFERENTIAL_WEIGHT = 0.7; // F
+    private static final double CROSSOVER_RATE = 0.9;      // CR
+
+    private final int maxGenerations;
+    private final int minPopulation;
+    private final double tolerance;
+    private final Random random;
+
+    /**
+     * @param minPopulation Lower bound on the population size, e.g. the number of parallel workers
+     */
+    public DifferentialEvolutionStrategy(int maxGenerations, int minPopulation, double tolerance, Random random) {
+        this.maxGenerations = maxGenerations;
+        this.minPopulation = minPopulation;
+        this.tolerance = tolerance;
+        this.random = random;
+    }
+
+    @Override
+    public int getMaxIterations() {
+        return maxGenerations;
+    }
+
+    @Override
+    public double[] minimize(Optimizer.ObjectiveFunction objective, double[] initialGuess,
+                             double[] lower, double[] upper, IterationListener listener) {
+        int n = initialGuess.length;
+        int size = Math.max(Math.max(4, 5 * n), minPopulation);
+
+        // Seed with the initial guess plus uniform samples over the box
+        double[][] population = new double[size][];
+        population[0] = SearchBox.clamp(initialGuess.clone(), lower, upper);
+        for (int k = 1; k < size; k++) {
+            population[k] = new double[n];
+            for (int i = 0; i < n; i++) {
+                population[k][i] = lower[i] + random.nextDouble() * (upper[i] - lower[i]);
+            }
+        }
+        double[] fitness = objective.evaluateBatch(population);
+
+        for (int generation = 0; generation < maxGenerations; generation++) {
+            if (listener != null) {
+                listener.iterationStarted(generation);
+            }
+
+            double[][] trials = new double[size][];
+            for (int k = 0; k < size; k++) {
+                int a, b, c;
+                do { a = random.nextInt(size); } while (a == k);
+                do { b = random.nextInt(size); } while (b == k || b == a);
+                do { c = random.nextInt(size); } while (c == k || c == a || c == b);
+                int forced = random.nextInt(n); // At least one coordinate comes from the mutant
+                double[] trial = population[k].clone();
+                for (int i = 0; i < n; i++) {
+                    if (i == forced || random.nextDouble() < CROSSOVER_RATE) {
+                        trial[i] = population[a][i] + DIFFERENTIAL_WEIGHT * (population[b][i] - population[c][i]);
+                    }
+                }
+                trials[k] = SearchBox.clamp(trial, lower, upper);
+            }
+            // A trial only replaces its parent if it is at least as good, so it may be abandoned once it
+            // is provably worse; its value is then a bound that still loses the comparison below
+            double[] abandonAbove = new double[size];
+            for (int k = 0; k < size; k++) {
+                abandonAbove[k] = Math.nextUp(fitness[k]);
+            }
+            double[] trialFitness = objective.evaluateBatch(trials, abandonAbove);
+
+            double best = Double.MAX_VALUE;
+            double worst = -Double.MAX_VALUE;
+            for (int k = 0; k < size; k++) {
+                if (trialFitness[k] <= fitness[k]) {
+                    population[k] = trials[k];
+                    fitness[k] = trialFitness[k];
+                }
+                best = Math.min(best, fitness[k]);
+                worst = Math.max(worst, fitness[k]);
+            }
+            if (worst - best < tolerance) {
+                break; // The whole population agrees
+            }
+        }
+
+        int bestIndex = 0;
+        for (int k = 1; k < size; k++) {
+            if (fitness[k] < fitness[bestIndex]) bestIndex = k;
+        }
+        return population[bestIndex];
+    }
+}
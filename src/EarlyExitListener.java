@@ -0,0 +1,127 @@
+import net.sf.openrocket.simulation.FlightEvent;
+import net.sf.openrocket.simulation.SimulationStatus;
+import net.sf.openrocket.simulation.exception.SimulationException;
+import net.sf.openrocket.simulation.listeners.AbstractSimulationListener;
+
+/**
+ * Ends a simulation as soon as the candidate provably cannot beat a score threshold (the
+ * value the search strategy needs it to beat, such as its simplex's worst vertex). After
+ * every step it bounds the final apogee and flight time from what has been simulated, and
+ * takes the smallest score consistent with those bounds:
+ * <ul>
+ * <li>Apogee is at least the highest altitude reached, and exactly that once apogee has passed.</li>
+ * <li>Flight time is at least the time so far. In a descent under a deployed recovery device
+ *     that is not speeding up, the remaining time is at least altitude / descent rate. Once every
+ *     device is out and the descent is steady, it is also at most that, stretched by the
+ *     thinning of the air above the ground.</li>
+ * </ul>
+ * Only the first flight branch (the sustainer) is watched; it is the one the scores use.
+ */
+public class EarlyExitListener extends AbstractSimulationListener {
+    private static final double GRAVITY = 9.81;
+    // Density falls no faster than exp(-h / H) in the lower atmosphere, so terminal velocity
+    // grows no faster than exp(h / 2H) with height above the ground
+    private static final double DENSITY_SCALE_HEIGHT = 8500;
+
+    private final Optimizer.OptimizationConfig config;
+    private final double threshold;
+    private final int recoveryDevices;
+    private final DescentModel.DescentRateTracker descent = new DescentModel.DescentRateTracker();
+
+    private SimulationStatus primary;
+    private double maxAltitude;
+    private boolean abandoned;
+    private double errorBound;
+    private double skippedTime;
+
+    /**
+     * @param threshold Error the candidate has to beat; the simulation ends once the bound reaches it
+     * @param recoveryDevices Number of recovery devices on the rocket
+     */
+    public EarlyExitListener(Optimizer.OptimizationConfig config, double threshold, int recoveryDevices) {
+        this.config = config;
+        this.threshold = threshold;
+        this.recoveryDevices = recoveryDevices;
+    }
+
+    @Override
+    public void startSimulation(SimulationStatus status) throws SimulationException {
+        primary = null;
+        maxAltitude = Double.NEGATIVE_INFINITY;
+        descent.reset();
+        abandoned = false;
+        errorBound = 0;
+        skippedTime = 0;
+    }
+
+    @Override
+    public void postStep(SimulationStatus status) throws SimulationException {
+        if (abandoned) return;
+        if (primary == null) primary = status;
+        if (status != primary) return; // Booster branch
+
+        double time = status.getSimulationTime();
+        double altitude = status.getRocketPosition().z;
+        double verticalSpeed = status.getRocketVelocity().z;
+        maxAltitude = Math.max(maxAltitude, altitude);
+
+        double apogeeLow = maxAltitude;
+        double apogeeHigh = status.isApogeeReached() ? maxAltitude : Double.POSITIVE_INFINITY;
+        double durationLow = time;
+        double durationHigh = Double.POSITIVE_INFINITY;
+        if (status.isApogeeReached() && verticalSpeed < 0 && !status.getDeployedRecoveryDevices().isEmpty()) {
+            double descentRate = -verticalSpeed;
+            double deceleration = descent.update(time, descentRate); // NaN on the first descent step
+            if (deceleration >= 0) {
+                double remaining = Math.max(0, altitude) / descentRate;
+                durationLow = time + remaining;
+                if (descent.isSteady() && status.getDeployedRecoveryDevices().size() >= recoveryDevices) {
+                    durationHigh = time + remaining * Math.exp(Math.max(0, altitude) / (2 * DENSITY_SCALE_HEIGHT));
+                }
+            }
+        }
+
+        double bound = 0;
+        if (config.enabledParams.getOrDefault("Altitude Score", true)) {
+            bound += minimumScore(apogeeLow, apogeeHigh, config.altitudeRange, 1);
+        }
+        if (config.enabledParams.getOrDefault("Duration Score", true)) {
+            bound += minimumScore(durationLow, durationHigh, config.durationRange, Optimizer.DURATION_SCORE_WEIGHT);
+        }
+        if (bound >= threshold) {
+            abandoned = true;
+            errorBound = bound;
+            // Rough length of the flight left unsimulated: the projected descent, or the coast to apogee
+            skippedTime = durationLow > time ? durationLow - time : Math.max(0, verticalSpeed) / GRAVITY;
+            status.getEventQueue().add(new FlightEvent(FlightEvent.Type.SIMULATION_END, time));
+        }
+    }
+
+    /**
+     * @return Whether the last simulation was ended early
+     */
+    public boolean isAbandoned() {
+        return abandoned;
+    }
+
+    /**
+     * @return Lower bound on the error of the last simulation, if it was abandoned
+     */
+    public double getErrorBound() {
+        return errorBound;
+    }
+
+    /**
+     * @return Estimated flight time (s) the last simulation did not have to simulate
+     */
+    public double getSkippedTime() {
+        return skippedTime;
+    }
+
+    // Smallest range score of any value in [low, high]; matches Optimizer's range scores
+    private static double minimumScore(double low, double high, double[] range, double weight) {
+        if (low > range[1]) return (low - range[1]) * weight;
+        if (high < range[0]) return (range[0] - high) * weight;
+        return 0;
+    }
+}
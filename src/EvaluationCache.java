@@ -0,0 +1,200 @@
+/**
+ * Memoizes evaluation outcomes by a 64-bit key built from the quantized parameter vector
+ * and the parachute pair, so points the search revisits (or that collapse onto the same
+ * design, e.g. through fin count rounding) are not simulated again.
+ *
+ * The table is open-addressed with linear probing over primitive arrays. Once it holds
+ * {@code maxEntries} entries, the least recently used ones are evicted using the CLOCK
+ * (second chance) approximation.
+ */
+public class EvaluationCache {
+    private static final byte EMPTY = 0;
+    private static final byte OCCUPIED = 1;
+    private static final byte REFERENCED = 2; // Occupied and used since the clock hand last passed
+
+    private final int maxEntries;
+    private final int mask;
+    private final long[] keys;
+    private final byte[] states;
+    private final byte[] statuses;
+    private final double[] stabilities;
+    private final double[] apogees;
+    private final double[] durations;
+    private final double[] errorBounds;
+    private int size = 0;
+    private int clockHand = 0;
+
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    public EvaluationCache(int maxEntries) {
+        this.maxEntries = Math.max(1, maxEntries);
+        // Keep the load factor at or below 0.5 so probe sequences stay short
+        int capacity = Integer.highestOneBit(this.maxEntries * 2 - 1) << 1;
+        this.mask = capacity - 1;
+        this.keys = new long[capacity];
+        this.states = new byte[capacity];
+        this.statuses = new byte[capacity];
+        this.stabilities = new double[capacity];
+        this.apogees = new double[capacity];
+        this.durations = new double[capacity];
+        this.errorBounds = new double[capacity];
+    }
+
+    /**
+     * Build a cache key from quantized parameter values and the parachute keys
+     */
+    public static long key(long[] quantizedValues, long stage1Key, long stage2Key) {
+        long h = 0x9E3779B97F4A7C15L;
+        for (long v : quantizedValues) {
+            h = mix(h ^ v);
+        }
+        h = mix(h ^ stage1Key);
+        h = mix(h ^ (stage2Key * 31));
+        return h;
+    }
+
+    /**
+     * Stable 64-bit hash of a name (FNV-1a), so parachute keys survive restarts
+     */
+    public static long hashName(String name) {
+        long h = 0xcbf29ce484222325L;
+        if (name == null) return h;
+        for (int i = 0; i < name.length(); i++) {
+            h ^= name.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Whether an outcome is a deterministic property of the design and may be memoized.
+     * Failures such as timeouts can be transient and are always retried. Abandoned simulations
+     * are kept for the run with their bound, which still answers callers whose threshold it reaches.
+     */
+    public static boolean isCacheable(EvaluationOutcome outcome) {
+        switch (outcome.status) {
+            case OK:
+            case INVALID_STABILITY:
+            case STABILITY_OUT_OF_RANGE:
+            case ABANDONED:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return The cached outcome, or null on a miss
+     */
+    public synchronized EvaluationOutcome get(long key) {
+        int slot = find(key);
+        if (slot < 0) {
+            misses++;
+            return null;
+        }
+        hits++;
+        states[slot] = REFERENCED;
+        EvaluationOutcome.Status status = EvaluationOutcome.Status.values()[statuses[slot]];
+        if (status == EvaluationOutcome.Status.OK) {
+            return EvaluationOutcome.simulated(stabilities[slot], apogees[slot], durations[slot]);
+        }
+        if (status == EvaluationOutcome.Status.ABANDONED) {
+            return EvaluationOutcome.abandoned(stabilities[slot], errorBounds[slot]);
+        }
+        return EvaluationOutcome.failed(status, stabilities[slot], status == EvaluationOutcome.Status.INVALID_STABILITY
+                ? "Invalid CP/Stability" : "Stability out of range");
+    }
+
+    public synchronized void put(long key, EvaluationOutcome outcome) {
+        if (!isCacheable(outcome)) return;
+        int slot = find(key);
+        if (slot < 0) {
+            if (size >= maxEntries) {
+                evictOne();
+            }
+            slot = (int) key & mask;
+            while (states[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            size++;
+        }
+        states[slot] = REFERENCED;
+        statuses[slot] = (byte) outcome.status.ordinal();
+        stabilities[slot] = outcome.stability;
+        apogees[slot] = outcome.apogee;
+        durations[slot] = outcome.duration;
+        errorBounds[slot] = outcome.errorBound;
+    }
+
+    private int find(long key) {
+        int slot = (int) key & mask;
+        while (states[slot] != EMPTY) {
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    // CLOCK sweep: clear reference bits until an entry that was not used since the last pass is found
+    private void evictOne() {
+        while (true) {
+            byte state = states[clockHand];
+            if (state == REFERENCED) {
+                states[clockHand] = OCCUPIED;
+            } else if (state == OCCUPIED) {
+                removeAt(clockHand);
+                evictions++;
+                return;
+            }
+            clockHand = (clockHand + 1) & mask;
+        }
+    }
+
+    // Backward-shift deletion keeps every remaining key reachable from its home slot without tombstones
+    private void removeAt(int slot) {
+        int hole = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (states[next] == EMPTY) break;
+            int home = (int) keys[next] & mask;
+            boolean homeInRange = hole <= next ? (hole < home && home <= next) : (hole < home || home <= next);
+            if (homeInRange) continue;
+            keys[hole] = keys[next];
+            states[hole] = states[next];
+            statuses[hole] = statuses[next];
+            stabilities[hole] = stabilities[next];
+            apogees[hole] = apogees[next];
+            durations[hole] = durations[next];
+            errorBounds[hole] = errorBounds[next];
+            hole = next;
+        }
+        states[hole] = EMPTY;
+        size--;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public synchronized String toString() {
+        long lookups = hits + misses;
+        return String.format("%d hits / %d lookups (%.1f%%), %d entries, %d evictions",
+                hits, lookups, lookups == 0 ? 0.0 : 100.0 * hits / lookups, size, evictions);
+    }
+}
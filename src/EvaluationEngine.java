@@ -0,0 +1,216 @@
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of {@link RocketWorker}s that lets objective evaluations run in parallel.
+ * Every worker owns its own copy of the rocket, so a worker is checked out for the
+ * duration of one evaluation and handed back afterwards. Started with
+ * {@link #startRemote}, evaluations go to worker processes instead, and a single local
+ * copy only serves the stability estimator.
+ */
+public class EvaluationEngine {
+    private final List<RocketWorker> workers;
+    private final BlockingQueue<RocketWorker> idleWorkers;
+    private final ExecutorService dispatcher;
+    private final int workerCount;
+    private final RemoteWorkerPool remote; // Null when evaluating in-process
+
+    private EvaluationEngine(List<RocketWorker> workers, RemoteWorkerPool remote) {
+        this.workers = workers;
+        this.remote = remote;
+        this.workerCount = remote != null ? remote.getWorkerCount() : workers.size();
+        this.idleWorkers = new ArrayBlockingQueue<>(workers.size(), false, workers);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread t = new Thread(r, "optimizer-eval-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Load one rocket copy per worker from the given file and start the engine.
+     * The copies are loaded in parallel since each one parses the whole ORK file.
+     */
+    public static EvaluationEngine start(File rocketFile, List<Optimizer.FinParameter> parameters,
+                                         Optimizer.OptimizationConfig config, int workerCount) throws Exception {
+        int count = Math.max(1, workerCount);
+        ExecutorService loader = Executors.newFixedThreadPool(count);
+        try {
+            List<Future<RocketWorker>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                futures.add(loader.submit(() -> new RocketWorker(rocketFile, parameters, config)));
+            }
+            List<RocketWorker> workers = new ArrayList<>();
+            for (Future<RocketWorker> future : futures) {
+                try {
+                    workers.add(future.get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    throw cause instanceof Exception ? (Exception) cause : e;
+                }
+            }
+            return new EvaluationEngine(workers, null);
+        } finally {
+            loader.shutdownNow();
+        }
+    }
+
+    /**
+     * Start worker processes on this machine, each with its own copy of the rocket
+     * @param processes Number of worker processes; evaluations run on as many as start
+     */
+    public static EvaluationEngine startRemote(File rocketFile, List<Optimizer.FinParameter> parameters,
+                                               Optimizer.OptimizationConfig config, int processes) throws Exception {
+        RocketWorker local = new RocketWorker(rocketFile, parameters, config);
+        RemoteWorkerPool pool = RemoteWorkerPool.start(rocketFile, config, processes);
+        List<RocketWorker> workers = new ArrayList<>();
+        workers.add(local);
+        return new EvaluationEngine(workers, pool);
+    }
+
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /**
+     * Evaluate one candidate on whichever worker is free, blocking until one is.
+     * Safe to call from any number of threads.
+     */
+    public EvaluationOutcome evaluate(double[] rawValues, int stage1Id, int stage2Id, double abandonAbove,
+                                      Fidelity fidelity) throws InterruptedException {
+        if (remote != null) {
+            return remote.evaluate(rawValues, stage1Id, stage2Id, abandonAbove, fidelity);
+        }
+        RocketWorker worker = idleWorkers.take();
+        try {
+            return worker.evaluate(rawValues, stage1Id, stage2Id, abandonAbove, fidelity);
+        } finally {
+            idleWorkers.add(worker);
+        }
+    }
+
+    /**
+     * Evaluate a batch of independent points in parallel.
+     * @param abandonAbove Per point, the value it has to beat (see {@link Optimizer.ObjectiveFunction#evaluate(double[], double)})
+     * @return The objective values, in the same order as the points
+     */
+    public double[] evaluateAll(Optimizer.ObjectiveFunction function, double[][] points, double[] abandonAbove) {
+        List<Callable<Double>> tasks = new ArrayList<>(points.length);
+        for (int i = 0; i < points.length; i++) {
+            double[] point = points[i];
+            double threshold = abandonAbove[i];
+            tasks.add(() -> function.evaluate(point, threshold));
+        }
+        List<Double> values = invokeAll(tasks, Double.MAX_VALUE);
+        double[] result = new double[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Run independent tasks on the engine's dispatcher threads and wait for all of them.
+     * @param failureValue Value reported for a task that threw or was interrupted
+     */
+    public <T> List<T> invokeAll(List<Callable<T>> tasks, T failureValue) {
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : dispatcher.invokeAll(tasks)) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException | CancellationException e) {
+                    results.add(failureValue);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            while (results.size() < tasks.size()) {
+                results.add(failureValue);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Calibrate a stability estimator on one of the workers' copies, which must not have evaluated anything yet.
+     * @param baselineValues Raw values of the design as loaded, in parameter order
+     */
+    public StabilityEstimator createStabilityEstimator(double[] baselineValues) throws InterruptedException {
+        RocketWorker worker = idleWorkers.take();
+        try {
+            return worker.createStabilityEstimator(baselineValues);
+        } finally {
+            idleWorkers.add(worker);
+        }
+    }
+
+    /**
+     * Summary of how often the workers recomputed or reused the center of pressure
+     */
+    public String getStabilityStats() {
+        if (remote != null) return "computed in the worker processes";
+        long computed = 0;
+        long reused = 0;
+        for (RocketWorker worker : workers) {
+            computed += worker.getStabilityCalculator().getCpComputations();
+            reused += worker.getStabilityCalculator().getCpReuses();
+        }
+        return String.format("%d CP computations, %d reused", computed, reused);
+    }
+
+    /**
+     * Predict descents with the given model on every worker (null simulates them in full).
+     * Worker processes keep their own model, validated against their own simulations.
+     */
+    public void setDescentModel(DescentModel descentModel) {
+        for (RocketWorker worker : workers) {
+            worker.setDescentModel(descentModel);
+        }
+    }
+
+    /**
+     * Record the phases of in-process evaluations in the given metrics
+     */
+    public void setMetrics(EvaluationMetrics metrics) {
+        for (RocketWorker worker : workers) {
+            worker.setMetrics(metrics);
+        }
+    }
+
+    public String getEarlyExitStats() {
+        long simulations = 0;
+        long abandoned = 0;
+        double skipped = 0;
+        for (RocketWorker worker : workers) {
+            simulations += worker.getSimulations();
+            abandoned += worker.getAbandonedSimulations();
+            skipped += worker.getSkippedFlightTime();
+        }
+        if (remote != null) {
+            simulations += remote.getSimulations();
+            abandoned += remote.getAbandonedSimulations();
+            skipped += remote.getSkippedFlightTime();
+        }
+        return String.format("%d of %d simulations abandoned early, about %.0f s of flight time not simulated",
+                abandoned, simulations, skipped);
+    }
+
+    /**
+     * @return Summary of the worker processes, or null when evaluating in-process
+     */
+    public String getRemoteStats() {
+        return remote != null ? remote.toString() : null;
+    }
+
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        if (remote != null) {
+            remote.shutdown();
+        }
+    }
+}
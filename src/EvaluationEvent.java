@@ -0,0 +1,63 @@
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One scored candidate, as delivered to {@link Optimizer.EvaluationListener}s after every
+ * evaluation that produced a flight. Values are raw (cm/count) and in parameter order,
+ * including disabled parameters at their original values.
+ */
+public class EvaluationEvent {
+    public final String[] parameterNames; // Shared by every event of a run; do not modify
+    public final double[] values;
+    public final String stage1Parachute;
+    public final String stage2Parachute;
+    public final double stability;
+    public final double apogee;
+    public final double duration;
+    public final double altitudeScore;
+    public final double durationScore;
+    public final double totalScore;
+    public final boolean newBest; // This candidate became the best result
+
+    public EvaluationEvent(String[] parameterNames, double[] values, String stage1Parachute, String stage2Parachute,
+                           double stability, double apogee, double duration,
+                           double altitudeScore, double durationScore, boolean newBest) {
+        this.parameterNames = parameterNames;
+        this.values = values;
+        this.stage1Parachute = stage1Parachute;
+        this.stage2Parachute = stage2Parachute;
+        this.stability = stability;
+        this.apogee = apogee;
+        this.duration = duration;
+        this.altitudeScore = altitudeScore;
+        this.durationScore = durationScore;
+        this.totalScore = altitudeScore + durationScore;
+        this.newBest = newBest;
+    }
+
+    /**
+     * @return The value of the named parameter, or NaN if there is no such parameter
+     */
+    public double getValue(String parameterName) {
+        for (int i = 0; i < parameterNames.length; i++) {
+            if (parameterNames[i].equals(parameterName)) return values[i];
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Parameter values and results keyed like {@link Optimizer#getBestValues()}
+     */
+    public Map<String, Double> toMap() {
+        Map<String, Double> map = new HashMap<>();
+        for (int i = 0; i < parameterNames.length; i++) {
+            map.put(parameterNames[i], values[i]);
+        }
+        map.put("apogee", apogee);
+        map.put("duration", duration);
+        map.put("altitudeScore", altitudeScore);
+        map.put("durationScore", durationScore);
+        map.put("totalScore", totalScore);
+        return map;
+    }
+}
@@ -0,0 +1,91 @@
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Where evaluations spend their time, and how they end. Each phase of an evaluation has a
+ * {@link LatencyHistogram}; the outcome counters tell how many evaluations were answered
+ * without simulating. Safe to update from every evaluation thread at once.
+ */
+public class EvaluationMetrics {
+    public enum Phase {
+        APPLY_PARAMETERS, // Setting the candidate's dimensions and parachutes on a rocket copy
+        COMPONENT_EVENTS, // fireComponentChangeEvent after applying them
+        STABILITY,        // CG, and CP unless it was reused
+        SIMULATION,       // The flight simulation, including retries
+        SCORING,          // Range scores and best-result bookkeeping
+        LOGGING,          // Formatting and delivering log messages and evaluation events
+        TOTAL             // Whole evaluateConfigurationWithError call
+    }
+
+    public enum Outcome {
+        SIMULATED, // Simulated to the end
+        CACHED,    // Answered by this run's cache or by the result store
+        SKIPPED,   // Rejected by the stability pre-screen without simulating
+        ABANDONED, // Simulation ended early because it could not beat the best
+        FAILED,    // Parameter, stability, simulation or other error
+        TIMED_OUT  // Simulation cancelled by the timeout (also counted as failed)
+    }
+
+    private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+    private final Map<Outcome, LongAdder> counters = new EnumMap<>(Outcome.class);
+
+    public EvaluationMetrics() {
+        for (Phase phase : Phase.values()) {
+            histograms.put(phase, new LatencyHistogram());
+        }
+        for (Outcome outcome : Outcome.values()) {
+            counters.put(outcome, new LongAdder());
+        }
+    }
+
+    /**
+     * Record a phase that started at {@code startNanos} (from System.nanoTime) and ends now
+     * @return The current time, so consecutive phases can chain their timestamps
+     */
+    public long recordSince(Phase phase, long startNanos) {
+        long now = System.nanoTime();
+        histograms.get(phase).record(now - startNanos);
+        return now;
+    }
+
+    public void count(Outcome outcome) {
+        counters.get(outcome).increment();
+    }
+
+    public LatencyHistogram getHistogram(Phase phase) {
+        return histograms.get(phase);
+    }
+
+    public long getCount(Outcome outcome) {
+        return counters.get(outcome).sum();
+    }
+
+    public void reset() {
+        histograms.values().forEach(LatencyHistogram::reset);
+        counters.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * One line with the outcome counts and the mean and 99th percentile of every phase that ran
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        for (Outcome outcome : Outcome.values()) {
+            sb.append(sb.length() > 0 ? ", " : "").append(outcome.name().toLowerCase()).append(' ').append(getCount(outcome));
+        }
+        for (Phase phase : Phase.values()) {
+            LatencyHistogram histogram = histograms.get(phase);
+            if (histogram.getCount() == 0) continue;
+            sb.append(String.format(" | %s mean %s p99 %s", phase.name().toLowerCase(),
+                    LatencyHistogram.format(histogram.getMeanNanos()),
+                    LatencyHistogram.format(histogram.getValueAtPercentile(99))));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+}
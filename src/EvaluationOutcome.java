@@ -0,0 +1,51 @@
+/**
+ * Raw result of evaluating one candidate design on a rocket copy, before any scoring.
+ */
+public class EvaluationOutcome {
+    public enum Status {
+        OK,
+        PARAMETER_ERROR,
+        INVALID_STABILITY,
+        STABILITY_OUT_OF_RANGE,
+        SIMULATION_FAILED,
+        ERROR,
+        ABANDONED // Simulation ended early; only a lower bound on the error is known
+    }
+
+    public final Status status;
+    public final double stability;
+    public final double apogee;
+    public final double duration;
+    public final String message;
+    public final double errorBound; // Lower bound on the error of an ABANDONED outcome, NaN otherwise
+
+    public EvaluationOutcome(Status status, double stability, double apogee, double duration, String message) {
+        this(status, stability, apogee, duration, message, Double.NaN);
+    }
+
+    private EvaluationOutcome(Status status, double stability, double apogee, double duration, String message, double errorBound) {
+        this.status = status;
+        this.stability = stability;
+        this.apogee = apogee;
+        this.duration = duration;
+        this.message = message;
+        this.errorBound = errorBound;
+    }
+
+    public static EvaluationOutcome simulated(double stability, double apogee, double duration) {
+        return new EvaluationOutcome(Status.OK, stability, apogee, duration, null);
+    }
+
+    public static EvaluationOutcome failed(Status status, double stability, String message) {
+        return new EvaluationOutcome(status, stability, Double.NaN, Double.NaN, message);
+    }
+
+    public static EvaluationOutcome abandoned(double stability, double errorBound) {
+        return new EvaluationOutcome(Status.ABANDONED, stability, Double.NaN, Double.NaN,
+                "Abandoned: cannot beat the threshold", errorBound);
+    }
+
+    public boolean isSimulated() {
+        return status == Status.OK;
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Simulation fidelity an evaluation ran at. Coarse evaluations use a larger time step so the
+ * search can explore cheaply; candidates that look competitive are re-run at full fidelity.
+ */
+public enum Fidelity {
+    FULL,  // The design's own simulation options
+    COARSE // Time step and step angle scaled by OptimizationConfig.coarseTimeStepFactor
+}
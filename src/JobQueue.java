@@ -0,0 +1,194 @@
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Optimizes many designs in one process. Jobs run a few at a time and share a core budget:
+ * each gets an equal share as its worker threads (less if its settings ask for fewer). Running
+ * in one JVM shares the OpenRocket databases, the parachute registry and the warmed-up code.
+ *
+ * Every job writes {@code <name>.log}, {@code <name>-results.properties} (including its
+ * timings) and {@code <name>-optimized.ork} to the results directory, and a failed job only
+ * marks its own row in {@code batch-summary.csv}. OpenRocket must already be started.
+ */
+public class JobQueue {
+    private final int coreBudget;
+    private final int concurrentJobs;
+    private final File resultsDir;
+    private final List<Job> jobs = new ArrayList<>();
+
+    public static final class Job {
+        final File design;
+        final Properties settings;
+
+        Job(File design, Properties settings) {
+            this.design = design;
+            this.settings = settings;
+        }
+    }
+
+    public static final class JobResult {
+        public final File design;
+        public final boolean succeeded;
+        public final String error;        // Null when the job succeeded
+        public final double totalScore;   // NaN without a result
+        public final double initializeSeconds;
+        public final double optimizeSeconds;
+
+        JobResult(File design, boolean succeeded, String error, double totalScore,
+                  double initializeSeconds, double optimizeSeconds) {
+            this.design = design;
+            this.succeeded = succeeded;
+            this.error = error;
+            this.totalScore = totalScore;
+            this.initializeSeconds = initializeSeconds;
+            this.optimizeSeconds = optimizeSeconds;
+        }
+    }
+
+    /**
+     * @param coreBudget Worker threads shared by all running jobs
+     * @param concurrentJobs Jobs run at the same time
+     */
+    public JobQueue(int coreBudget, int concurrentJobs, File resultsDir) {
+        this.coreBudget = Math.max(1, coreBudget);
+        this.concurrentJobs = Math.max(1, Math.min(concurrentJobs, this.coreBudget));
+        this.resultsDir = resultsDir;
+    }
+
+    public void submit(File design, Properties settings) {
+        jobs.add(new Job(design, settings));
+    }
+
+    /**
+     * Queue every .ork file in a directory. A {@code <name>.properties} next to a design
+     * overrides the base settings for that job.
+     * @return Number of jobs queued
+     */
+    public int submitDirectory(File dir, Properties baseSettings) throws IOException {
+        File[] designs = dir.listFiles((d, name) -> name.toLowerCase().endsWith(".ork"));
+        if (designs == null) {
+            throw new IOException("Cannot list " + dir);
+        }
+        Arrays.sort(designs);
+        for (File design : designs) {
+            Properties settings = new Properties(baseSettings);
+            File overrides = new File(dir, OptimizerCLI.baseName(design) + ".properties");
+            if (overrides.isFile()) {
+                try (InputStream in = new FileInputStream(overrides)) {
+                    settings.load(in);
+                }
+            }
+            submit(design, settings);
+        }
+        return designs.length;
+    }
+
+    /**
+     * Run the queued jobs and write the batch summary
+     * @return One result per job, in submission order
+     */
+    public List<JobResult> runAll() throws IOException, InterruptedException {
+        if (!resultsDir.isDirectory() && !resultsDir.mkdirs()) {
+            throw new IOException("Cannot create results directory " + resultsDir);
+        }
+        int threadsPerJob = Math.max(1, coreBudget / concurrentJobs);
+        ExecutorService pool = Executors.newFixedThreadPool(concurrentJobs, r -> {
+            Thread t = new Thread(r, "optimization-job");
+            t.setDaemon(true);
+            return t;
+        });
+        List<JobResult> results = new ArrayList<>();
+        try {
+            List<Future<JobResult>> futures = new ArrayList<>();
+            for (Job job : jobs) {
+                futures.add(pool.submit(() -> run(job, threadsPerJob)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    // run() catches everything; only reached if even the failure could not be recorded
+                    results.add(new JobResult(jobs.get(i).design, false, String.valueOf(e.getCause()), Double.NaN, 0, 0));
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        jobs.clear();
+        writeSummary(results);
+        return results;
+    }
+
+    private JobResult run(Job job, int threadsPerJob) {
+        String baseName = OptimizerCLI.baseName(job.design);
+        File logFile = new File(resultsDir, baseName + ".log");
+        double initializeSeconds = 0;
+        double optimizeSeconds = 0;
+        try (PrintWriter log = new PrintWriter(Files.newBufferedWriter(logFile.toPath(), StandardCharsets.UTF_8))) {
+            try {
+                Optimizer optimizer = new Optimizer();
+                OptimizerCLI.configure(optimizer, job.design, job.settings);
+                Optimizer.OptimizationConfig config = optimizer.getConfig();
+                config.workerThreads = Math.max(1, Math.min(config.workerThreads, threadsPerJob));
+                optimizer.setLogListener(OptimizerCLI.logListener(job.settings, log::println));
+
+                long start = System.nanoTime();
+                optimizer.initialize();
+                OptimizerCLI.applyBounds(optimizer, job.settings);
+                initializeSeconds = (System.nanoTime() - start) / 1e9;
+                start = System.nanoTime();
+                optimizer.optimizeFins();
+                optimizeSeconds = (System.nanoTime() - start) / 1e9;
+
+                Properties timings = new Properties();
+                timings.setProperty("workerThreads", Integer.toString(config.workerThreads));
+                timings.setProperty("initializeSeconds", String.format("%.3f", initializeSeconds));
+                timings.setProperty("optimizeSeconds", String.format("%.3f", optimizeSeconds));
+                OptimizerCLI.writeResults(optimizer, job.design, resultsDir, true, timings);
+                double totalScore = optimizer.getBestValues().getOrDefault("totalScore", Double.NaN);
+                return new JobResult(job.design, true, null, totalScore, initializeSeconds, optimizeSeconds);
+            } catch (Throwable t) { // Includes errors such as OutOfMemoryError in this job's rocket copies
+                StringWriter trace = new StringWriter();
+                t.printStackTrace(new PrintWriter(trace));
+                log.println("Job failed: " + trace);
+                return new JobResult(job.design, false, String.valueOf(t), Double.NaN, initializeSeconds, optimizeSeconds);
+            }
+        } catch (IOException e) {
+            return new JobResult(job.design, false, "Cannot write " + logFile + ": " + e.getMessage(),
+                    Double.NaN, initializeSeconds, optimizeSeconds);
+        }
+    }
+
+    private void writeSummary(List<JobResult> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("design,status,totalScore,initializeSeconds,optimizeSeconds,error");
+        for (JobResult result : results) {
+            lines.add(String.format("%s,%s,%s,%.3f,%.3f,%s",
+                    csv(result.design.getPath()), result.succeeded ? "ok" : "failed",
+                    Double.isNaN(result.totalScore) ? "" : Double.toString(result.totalScore),
+                    result.initializeSeconds, result.optimizeSeconds,
+                    result.error != null ? csv(result.error) : ""));
+        }
+        Files.write(new File(resultsDir, "batch-summary.csv").toPath(), lines, StandardCharsets.UTF_8);
+    }
+
+    private static String csv(String value) {
+        return value.contains(",") || value.contains("\"") || value.contains("\n")
+                ? "\"" + value.replace("\"", "\"\"") + "\""
+                : value;
+    }
+}
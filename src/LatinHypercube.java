@@ -0,0 +1,35 @@
+import java.util.Random;
+
+/**
+ * Latin hypercube sampling of a search box: every dimension is split into as many equal
+ * strata as there are samples, and each stratum is hit exactly once. Spreads a small number
+ * of starting points far better than independent uniform draws.
+ */
+final class LatinHypercube {
+    private LatinHypercube() {
+    }
+
+    /**
+     * @return {@code count} points inside [lower, upper], one per stratum in every dimension
+     */
+    static double[][] sample(int count, double[] lower, double[] upper, Random random) {
+        int dimensions = lower.length;
+        double[][] points = new double[count][dimensions];
+        int[] strata = new int[count];
+        for (int d = 0; d < dimensions; d++) {
+            for (int i = 0; i < count; i++) strata[i] = i;
+            // Fisher-Yates shuffle pairs the strata of this dimension randomly with the others
+            for (int i = count - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = strata[i];
+                strata[i] = strata[j];
+                strata[j] = swap;
+            }
+            for (int i = 0; i < count; i++) {
+                double u = (strata[i] + random.nextDouble()) / count;
+                points[i][d] = lower[d] + u * (upper[d] - lower[d]);
+            }
+        }
+        return points;
+    }
+}
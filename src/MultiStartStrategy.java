@@ -0,0 +1,174 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs a local strategy from several starts spread over the search box by Latin hypercube
+ * sampling (the first start is the initial guess), several at a time. A start whose best
+ * point wanders into the basin of an optimum another start already converged to, without
+ * beating it, is stopped early. When all starts are done, the distinct local optima found
+ * and how many starts reached each are reported.
+ */
+public class MultiStartStrategy implements OptimizationStrategy {
+    private static final double BASIN_RADIUS = 0.05; // Normalized distance within which two points share a basin
+    private static final int MIN_ITERATIONS_BEFORE_STOP = 5; // Let a start settle before judging its basin
+
+    private final OptimizationStrategy local;
+    private final int starts;
+    private final int parallelism;
+    private final Random random;
+    private final Consumer<String> reporter;
+
+    /**
+     * @param local Strategy run from each start; must allow concurrent minimize calls
+     * @param parallelism Starts run at the same time
+     * @param reporter Receives the local optima report, may be null
+     */
+    public MultiStartStrategy(OptimizationStrategy local, int starts, int parallelism, Random random, Consumer<String> reporter) {
+        this.local = local;
+        this.starts = Math.max(1, starts);
+        this.parallelism = Math.max(1, parallelism);
+        this.random = random;
+        this.reporter = reporter;
+    }
+
+    @Override
+    public int getMaxIterations() {
+        return starts * local.getMaxIterations();
+    }
+
+    @Override
+    public double[] minimize(Optimizer.ObjectiveFunction objective, double[] initialGuess,
+                             double[] lower, double[] upper, IterationListener listener) {
+        double[][] startPoints = new double[starts][];
+        startPoints[0] = initialGuess.clone();
+        double[][] sampled = LatinHypercube.sample(starts - 1, lower, upper, random);
+        System.arraycopy(sampled, 0, startPoints, 1, sampled.length);
+
+        List<Basin> basins = new ArrayList<>(); // Guarded by itself
+        AtomicInteger iterations = new AtomicInteger();
+        AtomicInteger stoppedEarly = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(parallelism, starts));
+        try {
+            List<Future<?>> runs = new ArrayList<>();
+            for (double[] start : startPoints) {
+                runs.add(pool.submit(() -> {
+                    Basin[] absorbedBy = {null};
+                    double[] result = local.minimize(objective, start, lower, upper, new IterationListener() {
+                        private int ownIterations;
+
+                        @Override
+                        public void iterationStarted(int iteration) {
+                            ownIterations++;
+                            if (listener != null) {
+                                listener.iterationStarted(iterations.getAndIncrement());
+                            }
+                        }
+
+                        @Override
+                        public boolean shouldStop(double[] bestPoint, double bestValue) {
+                            if (listener != null && listener.shouldStop(bestPoint, bestValue)) return true;
+                            synchronized (basins) {
+                                Basin basin = findBasin(basins, SearchBox.normalize(bestPoint, lower, upper));
+                                if (basin != null && bestValue >= basin.value
+                                        && ownIterations >= MIN_ITERATIONS_BEFORE_STOP) {
+                                    absorbedBy[0] = basin;
+                                    return true;
+                                }
+                            }
+                            return false;
+                        }
+                    });
+                    if (absorbedBy[0] != null) {
+                        synchronized (basins) {
+                            absorbedBy[0].hits++;
+                        }
+                        stoppedEarly.incrementAndGet();
+                        return;
+                    }
+                    double value = objective.evaluate(result); // Normally served from the evaluation cache
+                    double[] position = SearchBox.normalize(result, lower, upper);
+                    synchronized (basins) {
+                        Basin basin = findBasin(basins, position);
+                        if (basin == null) {
+                            basins.add(new Basin(result, position, value));
+                        } else {
+                            basin.hits++;
+                            if (value < basin.value) basin.update(result, position, value);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> run : runs) {
+                try {
+                    run.get();
+                } catch (ExecutionException e) {
+                    throw new RuntimeException("Multi-start run failed", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        synchronized (basins) {
+            if (basins.isEmpty()) return initialGuess;
+            basins.sort((a, b) -> Double.compare(a.value, b.value));
+            if (reporter != null) {
+                reporter.accept(report(basins, stoppedEarly.get()));
+            }
+            return basins.get(0).point;
+        }
+    }
+
+    private String report(List<Basin> basins, int stoppedEarly) {
+        StringBuilder sb = new StringBuilder(String.format(
+                "Multi-start: %d starts, %d distinct local optima, %d stopped early in known basins",
+                starts, basins.size(), stoppedEarly));
+        for (Basin basin : basins) {
+            sb.append(String.format("%n  error %.4f reached by %d start(s) at [", basin.value, basin.hits));
+            for (int i = 0; i < basin.point.length; i++) {
+                sb.append(i > 0 ? ", " : "").append(String.format("%.3f", basin.point[i]));
+            }
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    private static Basin findBasin(List<Basin> basins, double[] position) {
+        for (Basin basin : basins) {
+            double distance = 0;
+            for (int i = 0; i < position.length; i++) {
+                distance += (position[i] - basin.position[i]) * (position[i] - basin.position[i]);
+            }
+            if (Math.sqrt(distance) < BASIN_RADIUS) return basin;
+        }
+        return null;
+    }
+
+    // A local optimum and the starts that ended in it
+    private static final class Basin {
+        double[] point;
+        double[] position; // Normalized to the search box
+        double value;
+        int hits = 1;
+
+        Basin(double[] point, double[] position, double value) {
+            update(point, position, value);
+        }
+
+        void update(double[] point, double[] position, double value) {
+            this.point = point;
+            this.position = position;
+            this.value = value;
+        }
+    }
+}
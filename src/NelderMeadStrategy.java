@@ -0,0 +1,197 @@
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Nelder-Mead simplex search. Starts from a small simplex around the initial guess, so it
+ * refines the basin it starts in; the simplex vertices and shrink steps are evaluated as batches.
+ */
+public class NelderMeadStrategy implements OptimizationStrategy {
+    private static final double ALPHA = 1.0; // Reflection factor
+    private static final double GAMMA = 2.0; // Expansion factor
+    private static final double RHO = 0.5;   // Contraction factor
+    private static final double SIGMA = 0.5; // Shrink factor
+
+    private final double tolerance;
+    private final int maxIterations;
+    private final boolean speculative; // Evaluate all candidate moves of an iteration as one batch
+
+    /**
+     * @param speculative Speculatively evaluate reflection, expansion and both contractions together each
+     *                    iteration. The search takes the same path as the sequential method; it trades extra
+     *                    evaluations for one batch latency per iteration, so it only pays off when cores would
+     *                    otherwise be idle.
+     */
+    public NelderMeadStrategy(double tolerance, int maxIterations, boolean speculative) {
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+        this.speculative = speculative;
+    }
+
+    @Override
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    @Override
+    public double[] minimize(Optimizer.ObjectiveFunction function, double[] initialGuess,
+                             double[] lower, double[] upper, IterationListener listener) {
+        int dimensions = initialGuess.length;
+        // Initialize simplex
+        double[][] simplex = new double[dimensions + 1][];
+
+        // Initial point
+        simplex[0] = Arrays.copyOf(initialGuess, dimensions);
+
+        // Create other points by perturbing the initial guess slightly along each axis
+        double perturbation = 0.05; // 5% perturbation
+         for (int i = 0; i < dimensions; i++) {
+             simplex[i + 1] = Arrays.copyOf(initialGuess, dimensions);
+             // Perturb only if the initial guess for this dimension is not zero,
+             // otherwise, use a small fixed perturbation.
+             if (Math.abs(simplex[i + 1][i]) > 1e-9) {
+                simplex[i + 1][i] *= (1.0 + perturbation);
+             } else {
+                 simplex[i + 1][i] = perturbation;
+             }
+        }
+        // The vertices are independent, so they are evaluated as one batch
+        final double[] fSimplex = function.evaluateBatch(simplex);
+        int evaluations = dimensions + 1;
+
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+             // --- Report Progress ---
+             if (listener != null) {
+                listener.iterationStarted(iteration);
+             }
+
+            // Order simplex points by function value (worst to best)
+            Integer[] order = new Integer[dimensions + 1];
+            for (int i = 0; i <= dimensions; i++) order[i] = i;
+            Arrays.sort(order, Comparator.comparingDouble(i -> fSimplex[i]));
+
+            int bestIdx = order[0];
+            int secondWorstIdx = order[dimensions - 1];
+            int worstIdx = order[dimensions];
+
+            // Check for convergence (simplex size)
+             double maxDiff = 0;
+             for (int i = 1; i <= dimensions; i++) {
+                 maxDiff = Math.max(maxDiff, Math.abs(fSimplex[order[i]] - fSimplex[bestIdx]));
+             }
+             if (maxDiff < tolerance) {
+                 //System.out.println("Converged after " + iteration + " iterations.");
+                 return simplex[bestIdx];
+             }
+             if (listener != null && listener.shouldStop(simplex[bestIdx], fSimplex[bestIdx])) {
+                 return simplex[bestIdx];
+             }
+
+            // Calculate centroid (excluding the worst point)
+            double[] centroid = new double[dimensions];
+            for (int i = 0; i < dimensions; i++) { // Loop through dimensions
+                for (int j = 0; j <= dimensions; j++) { // Loop through simplex points
+                    if (j != worstIdx) {
+                        centroid[i] += simplex[j][i];
+                    }
+                }
+                centroid[i] /= dimensions;
+            }
+
+            // Candidate moves: reflection, expansion, outside and inside contraction
+            double[] reflected = new double[dimensions];
+            double[] expanded = new double[dimensions];
+            double[] outsideContracted = new double[dimensions];
+            double[] insideContracted = new double[dimensions];
+            for (int i = 0; i < dimensions; i++) {
+                reflected[i] = centroid[i] + ALPHA * (centroid[i] - simplex[worstIdx][i]);
+                expanded[i] = centroid[i] + GAMMA * (reflected[i] - centroid[i]);
+                outsideContracted[i] = centroid[i] + RHO * (reflected[i] - centroid[i]);
+                insideContracted[i] = centroid[i] - RHO * (centroid[i] - simplex[worstIdx][i]);
+            }
+            // Every move is only taken if it beats the worst vertex, so a move that provably cannot
+            // may be abandoned early; its value is then a bound that still loses each comparison below
+            double fWorst = fSimplex[worstIdx];
+            double[] speculated = null;
+            double fReflected;
+            if (speculative) {
+                speculated = function.evaluateBatch(new double[][]{reflected, expanded, outsideContracted, insideContracted},
+                        new double[]{fWorst, fWorst, fWorst, fWorst});
+                evaluations += 4;
+                fReflected = speculated[0];
+            } else {
+                fReflected = function.evaluate(reflected, fWorst);
+                evaluations++;
+            }
+
+            // Reflection
+            if (fReflected >= fSimplex[bestIdx] && fReflected < fSimplex[secondWorstIdx]) {
+                // Accept reflected point
+                System.arraycopy(reflected, 0, simplex[worstIdx], 0, dimensions);
+                fSimplex[worstIdx] = fReflected;
+                continue;
+            }
+
+            // Expansion
+            if (fReflected < fSimplex[bestIdx]) {
+                double fExpanded;
+                if (speculated != null) {
+                    fExpanded = speculated[1];
+                } else {
+                    fExpanded = function.evaluate(expanded, fReflected);
+                    evaluations++;
+                }
+
+                if (fExpanded < fReflected) {
+                    // Accept expanded point
+                    System.arraycopy(expanded, 0, simplex[worstIdx], 0, dimensions);
+                    fSimplex[worstIdx] = fExpanded;
+                } else {
+                    // Accept reflected point
+                    System.arraycopy(reflected, 0, simplex[worstIdx], 0, dimensions);
+                    fSimplex[worstIdx] = fReflected;
+                }
+                continue;
+            }
+
+            // Contraction (outside if the reflection improved on the worst point, inside otherwise)
+            boolean outside = fReflected < fSimplex[worstIdx];
+            double[] contracted = outside ? outsideContracted : insideContracted;
+            double fContracted;
+            if (speculated != null) {
+                fContracted = outside ? speculated[2] : speculated[3];
+            } else {
+                fContracted = function.evaluate(contracted, fWorst);
+                evaluations++;
+            }
+
+            if (fContracted < fSimplex[worstIdx]) {
+                // Accept contracted point
+                System.arraycopy(contracted, 0, simplex[worstIdx], 0, dimensions);
+                fSimplex[worstIdx] = fContracted;
+                continue;
+            }
+
+            // Shrink towards the best point; the shrunk vertices are independent and evaluated as one batch
+            double[][] shrunk = new double[dimensions][];
+            for (int i = 1; i <= dimensions; i++) {
+                int currentIdx = order[i];
+                for (int j = 0; j < dimensions; j++) {
+                    simplex[currentIdx][j] = simplex[bestIdx][j] + SIGMA * (simplex[currentIdx][j] - simplex[bestIdx][j]);
+                }
+                shrunk[i - 1] = simplex[currentIdx];
+            }
+            double[] fShrunk = function.evaluateBatch(shrunk);
+            for (int i = 1; i <= dimensions; i++) {
+                fSimplex[order[i]] = fShrunk[i - 1];
+            }
+            evaluations += dimensions;
+        }
+
+        // Return the best point found after max iterations
+        Integer[] finalOrder = new Integer[dimensions + 1];
+        for(int i=0; i<=dimensions; i++) finalOrder[i] = i;
+        Arrays.sort(finalOrder, Comparator.comparingDouble(i -> fSimplex[i]));
+        //System.out.println("Reached max iterations (" + maxIterations + "). Evaluations: " + evaluations);
+        return simplex[finalOrder[0]];
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * A search algorithm that minimizes an {@link Optimizer.ObjectiveFunction}. The optimizer
+ * picks an implementation through {@link Optimizer.OptimizationConfig#strategy} and runs it
+ * once per parachute combination (or once overall in the ordered parachute search).
+ *
+ * Implementations should hand independent points to
+ * {@link Optimizer.ObjectiveFunction#evaluateBatch} so they are evaluated in parallel.
+ */
+public interface OptimizationStrategy {
+    /**
+     * Called at the start of every iteration (or generation), for progress reporting
+     */
+    interface IterationListener {
+        void iterationStarted(int iteration);
+
+        /**
+         * Asked once per iteration by strategies that support early termination.
+         * @return True to stop the run and return the current best point
+         */
+        default boolean shouldStop(double[] bestPoint, double bestValue) {
+            return false;
+        }
+    }
+
+    /**
+     * @return Upper bound on the iterations (or generations) of one run, used to size progress
+     */
+    int getMaxIterations();
+
+    /**
+     * Minimize the objective.
+     * @param objective Function to minimize; it clamps points to the parameter bounds itself
+     * @param initialGuess Starting point, usually the design's original values
+     * @param lower Lower end of the search box for each dimension
+     * @param upper Upper end of the search box for each dimension (always finite)
+     * @param listener Progress callback, may be null
+     * @return The best point found
+     */
+    double[] minimize(Optimizer.ObjectiveFunction objective, double[] initialGuess,
+                      double[] lower, double[] upper, IterationListener listener);
+}
@@ -1,6 +1,3 @@
-import net.sf.openrocket.aerodynamics.AerodynamicCalculator;
-import net.sf.openrocket.aerodynamics.BarrowmanCalculator;
-import net.sf.openrocket.aerodynamics.FlightConditions;
 import net.sf.openrocket.document.OpenRocketDocument;
 import net.sf.openrocket.document.StorageOptions;
 import net.sf.openrocket.file.GeneralRocketLoader;
@@ -8,12 +5,9 @@ import net.sf.openrocket.file.RocketSaver;
 import net.sf.openrocket.file.openrocket.OpenRocketSaver;
 import net.sf.openrocket.logging.ErrorSet;
 import net.sf.openrocket.logging.WarningSet;
-import net.sf.openrocket.masscalc.MassCalculator;
-import net.sf.openrocket.masscalc.RigidBody;
 import net.sf.openrocket.preset.ComponentPreset;
 import net.sf.openrocket.rocketcomponent.*;
 import net.sf.openrocket.simulation.SimulationOptions;
-import net.sf.openrocket.util.Coordinate;
 
 import java.io.File;
 import java.io.FileOutputStream;
@@ -23,29 +17,62 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.io.IOException;
-import net.sf.openrocket.simulation.exception.SimulationException;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class Optimizer {
     private final List<FinParameter> parameters = new ArrayList<>();
     private final OptimizationConfig config = new OptimizationConfig();
-    private final Map<String, Double> bestValues = new HashMap<>();
+    // Best design found so far, merged atomically by concurrent searches (null until a result exists)
+    private final AtomicReference<BestResult> best = new AtomicReference<>();
     private EllipticalFinSet fins;
     private BodyTube bodyTube;
     private NoseCone noseCone;
     private OpenRocketDocument document;
     private Rocket rocket;
     private SimulationOptions baseOptions;
-    private double bestError = Double.MAX_VALUE;
-    private LogListener logListener;
-    private StatusListener statusListener;
+    private final OptimizerLog optimizerLog = new OptimizerLog();
     private ProgressListener progressListener;
+    private PruningListener pruningListener;
+    private final List<EvaluationListener> evaluationListeners = new CopyOnWriteArrayList<>();
+    private String[] parameterNames; // Shared by the evaluation events of a run
     private Map<String, Double> originalValues = new HashMap<>();
     private volatile boolean cancelled = false;
+    // Pool of per-thread rocket copies used for objective evaluations (only alive during optimizeFins)
+    private EvaluationEngine engine;
+    // Outcomes of already evaluated (quantized) designs for the current run; null when disabled
+    private EvaluationCache evaluationCache;
+    // Outcomes recorded by earlier sessions on the same design and options; null when disabled or unavailable
+    private ResultStore resultStore;
+    // Closed-form stability estimate used to reject clearly infeasible points; null when disabled
+    private StabilityEstimator stabilityEstimator;
+    // Descent predictor shared by the in-process rocket copies; null unless analyticDescent is on
+    private DescentModel descentModel;
+    // Distinguishes coarse outcomes from full-fidelity ones in cache and store keys
+    private long coarseKeySalt;
+    private final AtomicInteger coarseEvaluations = new AtomicInteger();
+    private final AtomicInteger fidelityPromotions = new AtomicInteger();
+    // Phase timings and outcome counts of the current run, logged periodically while it runs
+    private final EvaluationMetrics metrics = new EvaluationMetrics();
+    private ScheduledExecutorService metricsReporter;
+    // Searches submitted by the concurrent parachute sweep, kept so cancel() can drop queued ones
+    private final List<Future<?>> sweepTasks = Collections.synchronizedList(new ArrayList<>());
     
     // Add overall progress tracking
     private int totalMajorSteps = 0;
@@ -56,29 +83,32 @@ public class Optimizer {
     private Parachute stage2Parachute;
     private ComponentPreset originalStage1Preset;
     private ComponentPreset originalStage2Preset;
+    // The parachutes as loaded, restored for "None" even when the design gives them no preset
+    private ParachuteHelper.Snapshot originalStage1Snapshot;
+    private ParachuteHelper.Snapshot originalStage2Snapshot;
     private String currentStage1Parachute = "None";
     private String currentStage2Parachute = "None";
+    // Parachutes reported before any best result exists (the design's original selections)
     private String bestStage1Parachute = "None";
     private String bestStage2Parachute = "None";
 
-    // Nelder-Mead parameters
-    private static final double NM_ALPHA = 1.0; // Reflection factor
-    private static final double NM_GAMMA = 2.0; // Expansion factor
-    private static final double NM_RHO = 0.5;   // Contraction factor
-    private static final double NM_SIGMA = 0.5; // Shrink factor
+    // Nelder-Mead parameters (the population strategies share the tolerance)
     private static final int NM_MAX_ITERATIONS = 100; // Max iterations per run
     private static final double NM_TOLERANCE = 1e-4; // Termination tolerance
+    // Error per second outside the duration range (altitude errors count one per metre)
+    static final double DURATION_SCORE_WEIGHT = 4;
+    private static final double MIN_PROMOTION_MARGIN = 10; // Smallest error margin for re-running a coarse result
 
     public Optimizer() {
         // Use derived minimums and Double.MAX_VALUE for maximums where no explicit limit exists
         // Fin parameters units seem to be cm in the FinParameter constructor, converted later. Keep consistent for now.
-        parameters.add(new FinParameter("thickness", 0.0, Double.MAX_VALUE, 0.05, v -> v / 100)); // Min 0
-        parameters.add(new FinParameter("rootChord", 0.0, Double.MAX_VALUE, 1.0, v -> v / 100));  // Min 0
-        parameters.add(new FinParameter("height", 0.0, Double.MAX_VALUE, 1.0, v -> v / 100));     // Min 0
-        parameters.add(new FinParameter("finCount", 1.0, 8.0, 1.0, v -> v));                       // Min 1, Max 8
-        parameters.add(new FinParameter("noseLength", 0.0, Double.MAX_VALUE, 1.0, v -> v / 100)); // Min 0
+        parameters.add(new FinParameter("thickness", 0.0, Double.MAX_VALUE, 0.05, 0.001, v -> v / 100)); // Min 0
+        parameters.add(new FinParameter("rootChord", 0.0, Double.MAX_VALUE, 1.0, 0.001, v -> v / 100));  // Min 0
+        parameters.add(new FinParameter("height", 0.0, Double.MAX_VALUE, 1.0, 0.001, v -> v / 100));     // Min 0
+        parameters.add(new FinParameter("finCount", 1.0, 8.0, 1.0, 1.0, v -> v));                  // Min 1, Max 8
+        parameters.add(new FinParameter("noseLength", 0.0, Double.MAX_VALUE, 1.0, 0.001, v -> v / 100)); // Min 0
         // Practical max is nose base radius, but no hard upper limit in code. Use MAX_VALUE.
-        parameters.add(new FinParameter("noseWallThickness", 0.0, Double.MAX_VALUE, 0.05, v -> v / 100)); // Min 0
+        parameters.add(new FinParameter("noseWallThickness", 0.0, Double.MAX_VALUE, 0.05, 0.001, v -> v / 100)); // Min 0
     }
 
     public static class OptimizationConfig {
@@ -87,6 +117,74 @@ public class Optimizer {
         public double[] stabilityRange = new double[2]; // Remove default
         public double[] durationRange = new double[2];  // Remove default
         public Map<String, Boolean> enabledParams = new HashMap<>();
+        public int workerThreads = Runtime.getRuntime().availableProcessors(); // Rocket copies evaluated in parallel
+        public boolean concurrentSweep = true; // Run the per-parachute-combination searches concurrently
+        public int evaluationCacheSize = 65536; // Max memoized evaluations per run (0 disables the cache)
+        public boolean persistentResults = true; // Reuse (and record) outcomes from earlier sessions on the same design
+        public boolean stabilityPrescreen = true; // Skip simulating points the stability estimate clearly rules out
+        public double parachuteDuplicateTolerance = 0.02; // Presets within 2% in drag area and mass count as one (0 disables)
+        // Also drop presets that are heavier with no more drag area. Off by default: the objective
+        // targets altitude and duration ranges, so a lighter or draggier chute is not always better.
+        public boolean pruneDominatedParachutes = false;
+        // Search the parachutes as extra dimensions (presets ordered by drag area) in a single
+        // Nelder-Mead run instead of one run per combination
+        public boolean orderedParachuteSearch = false;
+        // Evaluate all candidate moves of a Nelder-Mead iteration in parallel when a single search runs
+        public boolean speculativeSimplex = true;
+        // Search algorithm run for each parachute combination (or once in the ordered search)
+        public Strategy strategy = Strategy.NELDER_MEAD;
+        public int populationGenerations = 40; // Generation budget of the population-based strategies
+        public int surrogateRounds = 20;     // Proposal rounds of the Bayesian strategy
+        public int surrogateBatchSize = 4;   // Points proposed per round, simulated in parallel
+        // Nelder-Mead starts per search, spread by Latin hypercube sampling over the parameter
+        // bounds and run concurrently (1 searches from the original design only)
+        public int multiStarts = 1;
+        // End simulations once apogee and descent so far show they cannot beat the best result
+        public boolean earlyExit = true;
+        // Stop simulating once the descent under all recovery devices has settled and predict
+        // the rest; checked against full simulations and dropped if off by more than the tolerance
+        public boolean analyticDescent = false;
+        public double descentTolerance = 0.05; // Relative flight time error
+        // Screen candidates with a coarser simulation and re-run those that could compete with
+        // the best at full fidelity; only full-fidelity results become the best
+        public boolean multiFidelity = false;
+        public double coarseTimeStepFactor = 4.0;     // Time step and step angle multiplier of the coarse simulation
+        public double fidelityPromotionMargin = 0.25; // Coarse errors within 25% of the best are re-run at full fidelity
+        // Evaluate in this many worker JVMs on this machine instead of in-process rocket copies
+        // (0 evaluates in-process); each worker holds one copy, so the heap of this process no longer limits them
+        public int remoteWorkers = 0;
+        public int remoteTimeoutSeconds = 300; // A worker silent this long on one candidate counts as lost
+        public int metricsIntervalSeconds = 60; // Log evaluation metrics this often during a run (0 = only at the end)
+        // Write the outcome of every Nth evaluation to listeners that want LogLevel.EVALUATION
+        // (0 = none; new best designs are always logged at INFO)
+        public int logEveryNthEvaluation = 1;
+
+        public enum Strategy {
+            NELDER_MEAD,            // Local simplex refinement around the original design
+            CMA_ES,                 // Covariance matrix adaptation; escapes poor basins, batches well
+            DIFFERENTIAL_EVOLUTION, // Population search over the whole box; most robust, most evaluations
+            BAYESIAN                // Gaussian-process surrogate; fewest simulations per result
+        }
+    }
+
+    // Immutable snapshot of the best design found so far. Replaced as a whole, so concurrent
+    // searches can merge their results with a compare-and-set instead of sharing mutable state.
+    private static final class BestResult {
+        final double error;
+        final Map<String, Double> values; // Raw parameter values (cm/count) plus results and scores
+        final String stage1Parachute;
+        final String stage2Parachute;
+
+        BestResult(double error, Map<String, Double> values, String stage1Parachute, String stage2Parachute) {
+            this.error = error;
+            this.values = values;
+            this.stage1Parachute = stage1Parachute;
+            this.stage2Parachute = stage2Parachute;
+        }
+
+        BestResult withParachutes(String stage1, String stage2) {
+            return new BestResult(error, values, stage1, stage2);
+        }
     }
 
     // Make FinParameter public and static so it can be accessed from OptimizerGUI
@@ -98,43 +196,114 @@ public class Optimizer {
         double currentMin;
         double currentMax;
         double step;
+        final double quantum; // Resolution (raw units) candidates are snapped to, so revisited designs hit the cache
         double currentValue;
         boolean hasMaxLimit;
 
-        FinParameter(String name, double absoluteMin, double absoluteMax, double initialStep, Function<Double, Double> converter) {
+        FinParameter(String name, double absoluteMin, double absoluteMax, double initialStep, double quantum, Function<Double, Double> converter) {
             this.name = name;
             this.absoluteMin = absoluteMin;
             this.absoluteMax = absoluteMax;
             this.currentMin = absoluteMin;
             this.currentMax = absoluteMax;
             this.step = initialStep;
+            this.quantum = quantum;
             this.converter = converter;
             this.hasMaxLimit = (absoluteMax != Double.MAX_VALUE);
         }
     }
 
+    public enum LogLevel {
+        WARNING,   // Something went wrong, but the run continues
+        INFO,      // Run-level progress, new best designs and the final result
+        EVALUATION // The outcome of individual candidates, sampled by logEveryNthEvaluation
+    }
+
     public interface LogListener {
         void log(String message);
-    }
 
-    public interface StatusListener {
-        void updateStatus(String status);
+        /**
+         * Most detailed level this listener wants; messages above it are never built.
+         * Read once, when the listener is set.
+         */
+        default LogLevel getLevel() {
+            return LogLevel.INFO;
+        }
+
+        static LogListener atLevel(LogLevel level, LogListener listener) {
+            return new LogListener() {
+                @Override
+                public void log(String message) {
+                    listener.log(message);
+                }
+
+                @Override
+                public LogLevel getLevel() {
+                    return level;
+                }
+            };
+        }
     }
 
     public interface ProgressListener {
         void updateProgress(int currentPhase, int currentEval, int totalEval, int totalPhases);
     }
 
+    /**
+     * Told how many parachute combinations the sweep skips after pruning, once per run
+     */
+    public interface PruningListener {
+        void pruned(int prunedCombinations, int totalCombinations);
+    }
+
+    /**
+     * Receives every scored candidate. Called on the evaluating thread, possibly from several at once.
+     */
+    public interface EvaluationListener {
+        void evaluated(EvaluationEvent event);
+    }
+
     public OptimizationConfig getConfig() {
         return config;
     }
 
+    /**
+     * Phase timings and outcome counts of the current or last run
+     */
+    public EvaluationMetrics getMetrics() {
+        return metrics;
+    }
+
+    // Parameter definitions in evaluation order; the worker processes build their own from a new Optimizer
+    List<FinParameter> getParameters() {
+        return parameters;
+    }
+
     public boolean hasBestValues() {
-        return !bestValues.isEmpty();
+        return best.get() != null;
     }
 
     public Map<String, Double> getBestValues() {
-        return new HashMap<>(bestValues);
+        BestResult current = best.get();
+        return current != null ? new HashMap<>(current.values) : new HashMap<>();
+    }
+
+    private double getBestError() {
+        BestResult current = best.get();
+        return current != null ? current.error : Double.MAX_VALUE;
+    }
+
+    // Merge a candidate into the global best; returns true if it became the new best
+    private boolean recordIfBest(BestResult candidate) {
+        while (true) {
+            BestResult current = best.get();
+            if (cancelled || (current != null && current.error <= candidate.error)) {
+                return false;
+            }
+            if (best.compareAndSet(current, candidate)) {
+                return true;
+            }
+        }
     }
 
     public void initialize() throws Exception {
@@ -205,6 +374,7 @@ public class Optimizer {
         // Store original presets if parachutes are found
         if (stage1Parachute != null) {
             originalStage1Preset = stage1Parachute.getPresetComponent();
+            originalStage1Snapshot = new ParachuteHelper.Snapshot(stage1Parachute);
             currentStage1Parachute = originalStage1Preset != null ? 
                 ParachuteHelper.getPresetDisplayName(originalStage1Preset) : "Default Parachute";
             bestStage1Parachute = currentStage1Parachute;
@@ -217,6 +387,7 @@ public class Optimizer {
         
         if (stage2Parachute != null) {
             originalStage2Preset = stage2Parachute.getPresetComponent();
+            originalStage2Snapshot = new ParachuteHelper.Snapshot(stage2Parachute);
             currentStage2Parachute = originalStage2Preset != null ? 
                 ParachuteHelper.getPresetDisplayName(originalStage2Preset) : "Default Parachute";
             bestStage2Parachute = currentStage2Parachute;
@@ -229,24 +400,32 @@ public class Optimizer {
     }
 
     public void setLogListener(LogListener listener) {
-        this.logListener = listener;
-    }
-
-    public void setStatusListener(StatusListener listener) {
-        this.statusListener = listener;
+        optimizerLog.setListener(listener);
     }
 
     public void setProgressListener(ProgressListener listener) {
         this.progressListener = listener;
     }
 
-    private EllipticalFinSet findLastEllipticalFinSet(RocketComponent component) {
+    public void setPruningListener(PruningListener listener) {
+        this.pruningListener = listener;
+    }
+
+    public void addEvaluationListener(EvaluationListener listener) {
+        evaluationListeners.add(listener);
+    }
+
+    public void removeEvaluationListener(EvaluationListener listener) {
+        evaluationListeners.remove(listener);
+    }
+
+    static EllipticalFinSet findLastEllipticalFinSet(RocketComponent component) {
         List<EllipticalFinSet> finSets = new ArrayList<>();
         findFinSetsRecursive(component, finSets);
         return finSets.isEmpty() ? null : finSets.get(finSets.size() - 1);
     }
 
-    private void findFinSetsRecursive(RocketComponent component, List<EllipticalFinSet> results) {
+    private static void findFinSetsRecursive(RocketComponent component, List<EllipticalFinSet> results) {
         if (component instanceof EllipticalFinSet) {
             results.add((EllipticalFinSet) component);
         }
@@ -255,177 +434,44 @@ public class Optimizer {
         }
     }
 
-    // Interface for the objective function used by Nelder-Mead
+    // Interface for the objective function minimized by an OptimizationStrategy
     public interface ObjectiveFunction {
         double evaluate(double[] point);
-    }
 
-    // Nested class for Nelder-Mead Optimizer
-    private static class NelderMeadOptimizer {
-        private final ObjectiveFunction function;
-        private final int dimensions;
-        private final double tolerance;
-        private final int maxIterations;
-        private ProgressListener progressListener; // Optional progress listener
-        private int baseProgressStep = 0;
-        private int totalEstimatedProgressSteps = 1; // Avoid division by zero
-
-        public NelderMeadOptimizer(ObjectiveFunction function, int dimensions, double tolerance, int maxIterations) {
-            this.function = function;
-            this.dimensions = dimensions;
-            this.tolerance = tolerance;
-            this.maxIterations = maxIterations;
-        }
-
-        public void setProgressListener(ProgressListener listener, int baseStep, int totalSteps) {
-             this.progressListener = listener;
-             this.baseProgressStep = baseStep;
-             this.totalEstimatedProgressSteps = Math.max(1, totalSteps); // Ensure at least 1
-        }
-
-        public double[] optimize(double[] initialGuess) {
-            // Initialize simplex
-            double[][] simplex = new double[dimensions + 1][dimensions];
-            double[] fSimplex = new double[dimensions + 1];
-
-            // Initial point
-            simplex[0] = Arrays.copyOf(initialGuess, dimensions);
-            fSimplex[0] = function.evaluate(simplex[0]);
-            int evaluations = 1;
-
-            // Create other points by perturbing the initial guess slightly along each axis
-            double perturbation = 0.05; // 5% perturbation
-             for (int i = 0; i < dimensions; i++) {
-                 simplex[i + 1] = Arrays.copyOf(initialGuess, dimensions);
-                 // Perturb only if the initial guess for this dimension is not zero,
-                 // otherwise, use a small fixed perturbation.
-                 if (Math.abs(simplex[i + 1][i]) > 1e-9) {
-                    simplex[i + 1][i] *= (1.0 + perturbation);
-                 } else {
-                     simplex[i + 1][i] = perturbation;
-                 }
-                 fSimplex[i + 1] = function.evaluate(simplex[i + 1]);
-                 evaluations++;
-            }
-
-            for (int iteration = 0; iteration < maxIterations; iteration++) {
-                 // --- Report Progress ---
-                 if (progressListener != null) {
-                    // Calculate current step relative to the overall estimated total
-                    int currentOverallStep = baseProgressStep + iteration;
-                    // Report progress: Phase 0, current overall step, total estimated steps, 1 phase total
-                    progressListener.updateProgress(0, currentOverallStep, totalEstimatedProgressSteps, 1);
-                 }
-
-                // Order simplex points by function value (worst to best)
-                Integer[] order = new Integer[dimensions + 1];
-                for (int i = 0; i <= dimensions; i++) order[i] = i;
-                Arrays.sort(order, Comparator.comparingDouble(i -> fSimplex[i]));
-
-                int bestIdx = order[0];
-                int secondWorstIdx = order[dimensions - 1];
-                int worstIdx = order[dimensions];
-
-                // Check for convergence (simplex size)
-                 double maxDiff = 0;
-                 for (int i = 1; i <= dimensions; i++) {
-                     maxDiff = Math.max(maxDiff, Math.abs(fSimplex[order[i]] - fSimplex[bestIdx]));
-                 }
-                 if (maxDiff < tolerance) {
-                     //System.out.println("Converged after " + iteration + " iterations.");
-                     return simplex[bestIdx];
-                 }
-
-                // Calculate centroid (excluding the worst point)
-                double[] centroid = new double[dimensions];
-                for (int i = 0; i < dimensions; i++) { // Loop through dimensions
-                    for (int j = 0; j <= dimensions; j++) { // Loop through simplex points
-                        if (j != worstIdx) {
-                            centroid[i] += simplex[j][i];
-                        }
-                    }
-                    centroid[i] /= dimensions;
-                }
-
-                // Reflection
-                double[] reflected = new double[dimensions];
-                for (int i = 0; i < dimensions; i++) {
-                    reflected[i] = centroid[i] + NM_ALPHA * (centroid[i] - simplex[worstIdx][i]);
-                }
-                double fReflected = function.evaluate(reflected);
-                evaluations++;
-
-                if (fReflected >= fSimplex[bestIdx] && fReflected < fSimplex[secondWorstIdx]) {
-                    // Accept reflected point
-                    System.arraycopy(reflected, 0, simplex[worstIdx], 0, dimensions);
-                    fSimplex[worstIdx] = fReflected;
-                    continue;
-                }
-
-                // Expansion
-                if (fReflected < fSimplex[bestIdx]) {
-                    double[] expanded = new double[dimensions];
-                    for (int i = 0; i < dimensions; i++) {
-                        expanded[i] = centroid[i] + NM_GAMMA * (reflected[i] - centroid[i]);
-                    }
-                    double fExpanded = function.evaluate(expanded);
-                    evaluations++;
-
-                    if (fExpanded < fReflected) {
-                        // Accept expanded point
-                        System.arraycopy(expanded, 0, simplex[worstIdx], 0, dimensions);
-                        fSimplex[worstIdx] = fExpanded;
-            } else {
-                        // Accept reflected point
-                        System.arraycopy(reflected, 0, simplex[worstIdx], 0, dimensions);
-                        fSimplex[worstIdx] = fReflected;
-                    }
-                    continue;
-                }
-
-                // Contraction
-                double[] contracted = new double[dimensions];
-                if (fReflected < fSimplex[worstIdx]) {
-                    // Outside contraction
-                    for (int i = 0; i < dimensions; i++) {
-                        contracted[i] = centroid[i] + NM_RHO * (reflected[i] - centroid[i]);
-                }
-            } else {
-                    // Inside contraction
-                    for (int i = 0; i < dimensions; i++) {
-                        contracted[i] = centroid[i] - NM_RHO * (centroid[i] - simplex[worstIdx][i]);
-                    }
-                }
-                double fContracted = function.evaluate(contracted);
-                evaluations++;
-
-                if (fContracted < fSimplex[worstIdx]) {
-                    // Accept contracted point
-                    System.arraycopy(contracted, 0, simplex[worstIdx], 0, dimensions);
-                    fSimplex[worstIdx] = fContracted;
-                    continue;
-                }
+        /**
+         * Evaluate a point whose value only matters if it is below {@code abandonAbove}, such as a
+         * move that must beat the simplex's worst vertex. Its simulation may be cut short once it
+         * provably cannot; the value returned then is not the objective but a lower bound of at
+         * least {@code abandonAbove}, good only for losing that comparison.
+         */
+        default double evaluate(double[] point, double abandonAbove) {
+            return evaluate(point);
+        }
 
-                // Shrink
-                for (int i = 1; i <= dimensions; i++) { // Shrink towards the best point
-                    int currentIdx = order[i];
-                    for (int j = 0; j < dimensions; j++) {
-                        simplex[currentIdx][j] = simplex[bestIdx][j] + NM_SIGMA * (simplex[currentIdx][j] - simplex[bestIdx][j]);
-                    }
-                    fSimplex[currentIdx] = function.evaluate(simplex[currentIdx]);
-                    evaluations++;
-                }
+        // Evaluate independent points; implementations backed by the evaluation engine run them in parallel
+        default double[] evaluateBatch(double[][] points) {
+            double[] values = new double[points.length];
+            for (int i = 0; i < points.length; i++) {
+                values[i] = evaluate(points[i]);
             }
+            return values;
+        }
 
-            // Return the best point found after max iterations
-            Integer[] finalOrder = new Integer[dimensions + 1];
-            for(int i=0; i<=dimensions; i++) finalOrder[i] = i;
-            Arrays.sort(finalOrder, Comparator.comparingDouble(i -> fSimplex[i]));
-            //System.out.println("Reached max iterations (" + maxIterations + "). Evaluations: " + evaluations);
-            return simplex[finalOrder[0]];
+        // Like evaluateBatch, with a threshold per point as in evaluate(double[], double)
+        default double[] evaluateBatch(double[][] points, double[] abandonAbove) {
+            double[] values = new double[points.length];
+            for (int i = 0; i < points.length; i++) {
+                values[i] = evaluate(points[i], abandonAbove[i]);
+            }
+            return values;
         }
     }
 
+    // The optimizer's objective, told what each point has to beat (Double.MAX_VALUE for nothing)
+    private interface AbandoningObjective {
+        double evaluate(double[] point, double abandonAbove);
+    }
+
     // Restore the helper method to get display names for logging
     private String getDisplayName(String paramName) {
         switch (paramName) {
@@ -440,156 +486,229 @@ public class Optimizer {
         }
     }
 
+    // Resolve a candidate's outcome from the cheapest source that has it: this run's cache,
+    // results stored by earlier sessions, the stability pre-screen, and finally a full evaluation
+    private EvaluationOutcome lookupOrEvaluate(EvaluationEngine engine, double[] rawValues, long[] quantizedValues,
+                                               int stage1Id, int stage2Id, Fidelity fidelity, double abandonAbove) throws InterruptedException {
+        EvaluationCache cache = this.evaluationCache;
+        ParachuteRegistry parachutes = ParachuteRegistry.get();
+        long cacheKey = EvaluationCache.key(quantizedValues, parachutes.getKey(stage1Id), parachutes.getKey(stage2Id));
+        if (fidelity == Fidelity.COARSE) {
+            cacheKey ^= coarseKeySalt;
+        }
+        EvaluationOutcome outcome = cache != null ? cache.get(cacheKey) : null;
+        // An abandoned outcome only answers callers whose threshold its bound still reaches
+        if (outcome != null && outcome.status == EvaluationOutcome.Status.ABANDONED && outcome.errorBound < abandonAbove) {
+            outcome = null;
+        }
+        if (outcome != null) {
+            metrics.count(EvaluationMetrics.Outcome.CACHED);
+            return outcome;
+        }
+
+        ResultStore store = this.resultStore;
+        outcome = store != null ? store.get(cacheKey, config.stabilityRange) : null;
+        if (outcome == null) {
+            StabilityEstimator estimator = this.stabilityEstimator;
+            double estimated = estimator != null ? estimator.screen(rawValues, stage1Id, stage2Id) : Double.NaN;
+            if (!Double.isNaN(estimated)) {
+                // Only an estimate, so it is neither cached nor stored
+                metrics.count(EvaluationMetrics.Outcome.SKIPPED);
+                return EvaluationOutcome.failed(EvaluationOutcome.Status.STABILITY_OUT_OF_RANGE, estimated,
+                        "Stability out of range (estimated)");
+            }
+
+            outcome = engine.evaluate(rawValues, stage1Id, stage2Id, abandonAbove, fidelity);
+            countOutcome(outcome);
+            if (estimator != null && (outcome.status == EvaluationOutcome.Status.OK
+                    || outcome.status == EvaluationOutcome.Status.ABANDONED
+                    || outcome.status == EvaluationOutcome.Status.STABILITY_OUT_OF_RANGE)) {
+                estimator.observe(rawValues, stage1Id, stage2Id, outcome.stability);
+            }
+            // Predicted descents are approximate, so they are not recorded for later sessions
+            if (store != null && !config.analyticDescent) {
+                try {
+                    store.put(cacheKey, outcome, fidelity);
+                } catch (IOException e) {
+                    log(LogLevel.WARNING, "Failed to record result: " + e.getMessage());
+                }
+            }
+        } else {
+            metrics.count(EvaluationMetrics.Outcome.CACHED);
+        }
+        if (cache != null) {
+            cache.put(cacheKey, outcome);
+        }
+        return outcome;
+    }
+
+    private void countOutcome(EvaluationOutcome outcome) {
+        switch (outcome.status) {
+            case OK:
+                metrics.count(EvaluationMetrics.Outcome.SIMULATED);
+                break;
+            case STABILITY_OUT_OF_RANGE:
+                metrics.count(EvaluationMetrics.Outcome.SKIPPED);
+                break;
+            case ABANDONED:
+                metrics.count(EvaluationMetrics.Outcome.ABANDONED);
+                break;
+            default:
+                metrics.count(EvaluationMetrics.Outcome.FAILED);
+                break;
+        }
+    }
+
     // Modified evaluateConfiguration to return error score directly
-    // and accept parameters as input array
-    private double evaluateConfigurationWithError(double[] currentParamValues, List<FinParameter> enabledParams) {
+    // and accept parameters as input array. The candidate itself is applied and simulated
+    // on one of the engine's rocket copies, so this may run on several threads at once.
+    private double evaluateConfigurationWithError(double[] currentParamValues, List<FinParameter> enabledParams,
+                                                  int stage1Id, int stage2Id) {
+        return evaluateConfigurationWithError(currentParamValues, enabledParams, stage1Id, stage2Id, Double.MAX_VALUE);
+    }
+
+    // abandonAbove: the value the caller needs this point to beat, see ObjectiveFunction#evaluate(double[], double)
+    private double evaluateConfigurationWithError(double[] currentParamValues, List<FinParameter> enabledParams,
+                                                  int stage1Id, int stage2Id, double abandonAbove) {
         if (cancelled) return Double.MAX_VALUE; // Return high error if cancelled
+        long start = System.nanoTime();
+        try {
+            return scoreConfiguration(currentParamValues, enabledParams, stage1Id, stage2Id, abandonAbove);
+        } finally {
+            metrics.recordSince(EvaluationMetrics.Phase.TOTAL, start);
+        }
+    }
 
-        // Map the input array values to the correct FinParameter objects
-        for (int i = 0; i < enabledParams.size(); i++) {
-            FinParameter param = enabledParams.get(i);
-            double rawValue = currentParamValues[i];
+    private double scoreConfiguration(double[] currentParamValues, List<FinParameter> enabledParams,
+                                      int stage1Id, int stage2Id, double abandonAbove) {
+        String stage1Option = ParachuteRegistry.get().getDisplayName(stage1Id);
+        String stage2Option = ParachuteRegistry.get().getDisplayName(stage2Id);
+
+        // Build the raw value vector for *all* parameters (in parameter order).
+        // Disabled parameters keep their original values.
+        double[] rawValues = new double[parameters.size()];
+        long[] quantizedValues = new long[parameters.size()];
+        for (int i = 0; i < parameters.size(); i++) {
+            FinParameter param = parameters.get(i);
+            int enabledIndex = enabledParams.indexOf(param);
+            if (enabledIndex < 0) {
+                rawValues[i] = originalValues.get(param.name);
+                quantizedValues[i] = Math.round(rawValues[i] / param.quantum);
+                continue;
+            }
+            double rawValue = currentParamValues[enabledIndex];
 
             // --- CLAMPING ---
             // Clamp the value to the parameter's current min/max bounds before applying
             rawValue = Math.max(param.currentMin, Math.min(param.currentMax, rawValue));
-        if ("finCount".equals(param.name)) {
-                rawValue = Math.round(rawValue); // Ensure fin count is integer after clamping
-            }
-            // Store the (potentially clamped) raw value for this evaluation
-             param.currentValue = rawValue;
-             // ----------------
-
-            double convertedValue = param.converter.apply(rawValue);
-
-            // Apply the clamped and converted value
-            try {
-                 switch (param.name) {
-                     case "thickness": fins.setThickness(convertedValue); break;
-                     case "rootChord": fins.setLength(convertedValue); break;
-                     case "height": fins.setHeight(convertedValue); break;
-                     case "finCount": fins.setFinCount((int) rawValue); break; // Use raw clamped value
-                     case "noseLength": noseCone.setLength(convertedValue); break;
-                     case "noseWallThickness": noseCone.setThickness(convertedValue); break;
-                 }
-            } catch (Exception e) {
-                 // Handle potential exceptions during component updates (e.g., invalid values)
-                 log("Error setting parameter " + param.name + " to " + rawValue + ": " + e.getMessage());
-                 return Double.MAX_VALUE; // Return high error if setting fails
-            }
+            // Snap to the parameter's quantum (fin count becomes an integer) so the design that is
+            // simulated is exactly the one its cache key describes
+            quantizedValues[i] = Math.round(rawValue / param.quantum);
+            rawValue = Math.max(param.currentMin, Math.min(param.currentMax, quantizedValues[i] * param.quantum));
+            rawValues[i] = rawValue;
         }
 
-        // Apply current parachute presets (managed outside this function by the main loop)
-        applyCurrentParachuteSettings();
+        EvaluationEngine engine = this.engine;
+        if (engine == null) return Double.MAX_VALUE; // Optimization already finished
 
+        EvaluationOutcome outcome;
+        double bestError = getBestError();
         try {
-            rocket.enableEvents();
-            FlightConfigurationId configId = document.getSelectedConfiguration().getId();
-            // Fire fewer events if possible, maybe just TREE_CHANGE? Test needed.
-            rocket.fireComponentChangeEvent(ComponentChangeEvent.AERODYNAMIC_CHANGE | ComponentChangeEvent.MASS_CHANGE | ComponentChangeEvent.MOTOR_CHANGE);
-
-            // --- Stability Check ---
-            double stability = calculateStability();
-            // Check if stability calculation failed (returned NaN)
-            if (Double.isNaN(stability)) {
-                 logCurrent("Skipping (NM)", stability, Double.NaN, Double.NaN, Double.NaN, Double.NaN, "Invalid CP/Stability");
-                 return Double.MAX_VALUE; // Return high error for invalid stability
-            }
-            // Check if stability is outside the user-defined range
-            if (stability < config.stabilityRange[0] || stability > config.stabilityRange[1]) {
-                logCurrent("Skipping (NM)", stability, Double.NaN, Double.NaN, Double.NaN, Double.NaN, "Stability out of range");
-                // Return a penalty proportional to how far out of bounds stability is
-                double penalty = Math.max(config.stabilityRange[0] - stability, stability - config.stabilityRange[1]);
-                 return 1000.0 + penalty * 100; // Large base penalty + proportional penalty
+            if (config.multiFidelity && bestError < Double.MAX_VALUE) {
+                // Explore at coarse fidelity; anything that could compete with the best is re-run in full
+                double promoteBelow = bestError + Math.max(MIN_PROMOTION_MARGIN, config.fidelityPromotionMargin * bestError);
+                // The coarse run may stop once it can neither be promoted nor win the caller's comparison
+                outcome = lookupOrEvaluate(engine, rawValues, quantizedValues, stage1Id, stage2Id, Fidelity.COARSE,
+                        Math.max(promoteBelow, abandonAbove));
+                coarseEvaluations.incrementAndGet();
+                if (outcome.isSimulated() && altitudeScoreOf(outcome.apogee) + durationScoreOf(outcome.duration) < promoteBelow) {
+                    fidelityPromotions.incrementAndGet();
+                    outcome = lookupOrEvaluate(engine, rawValues, quantizedValues, stage1Id, stage2Id, Fidelity.FULL, abandonAbove);
+                }
+            } else {
+                outcome = lookupOrEvaluate(engine, rawValues, quantizedValues, stage1Id, stage2Id, Fidelity.FULL, abandonAbove);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Double.MAX_VALUE;
+        }
 
-            // --- Simulation ---
-            SimulationStepper.SimulationResult result;
-             try {
-                result = new SimulationStepper(rocket, baseOptions).runSimulation();
-             } catch (SimulationException e) {
-                 logCurrent("Failed (NM Sim)", stability, Double.NaN, Double.NaN, Double.NaN, Double.NaN, "Sim Error: " + e.getMessage());
-                 return Double.MAX_VALUE; // Return high error on simulation failure
-             }
-             
-            double apogee = result.altitude;
-            double duration = result.duration;
-
-            // --- Calculate Scores ---
-            double altitudeScore = config.enabledParams.getOrDefault("Altitude Score", true) ?
-                    calculateAltitudeScore(apogee, config.altitudeRange[0], config.altitudeRange[1]) : 0.0;
-            double durationScore = config.enabledParams.getOrDefault("Duration Score", true) ?
-                    calculateDurationScore(duration, config.durationRange[0], config.durationRange[1]) : 0.0;
-            double totalError = altitudeScore + durationScore;
-
-            // --- Update Best Values if this is better ---
-             // Store current parameter raw values for potential update
-             Map<String, Double> currentRawValues = new HashMap<>();
-             for(FinParameter p : enabledParams) {
-                 currentRawValues.put(p.name, p.currentValue); // Use the potentially clamped value
-             }
-             // Include disabled params with their original values
-             for(FinParameter p : parameters) {
-                 if (!enabledParams.contains(p)) {
-                     currentRawValues.put(p.name, originalValues.get(p.name));
-                 }
-             }
-
-            if (totalError < bestError) {
-                bestError = totalError;
-                // Update bestValues map with the current parameter values and results
-                bestValues.clear();
-                bestValues.putAll(currentRawValues); // Store raw values (cm/count)
-                bestValues.put("apogee", apogee);
-                bestValues.put("duration", duration);
-                bestValues.put("altitudeScore", altitudeScore);
-                bestValues.put("durationScore", durationScore);
-                bestValues.put("totalScore", totalError);
-                // Save the current parachute selections associated with this best result
-                bestStage1Parachute = currentStage1Parachute;
-                bestStage2Parachute = currentStage2Parachute;
-
-                logCurrent("Best (NM)", stability, apogee, duration, altitudeScore, durationScore, null);
-                 // Fire tree change event *only* when a new best is found to potentially update UI previews?
-                 // Might be too frequent. Consider updating UI only at the end.
-                 // rocket.fireComponentChangeEvent(ComponentChangeEvent.TREE_CHANGE);
+        // Candidate lines are only built for the sampled evaluations of a listener that wants them
+        boolean logEvaluation = optimizerLog.sampleEvaluation();
+        switch (outcome.status) {
+            case PARAMETER_ERROR:
+                log(LogLevel.WARNING, outcome.message);
+                return Double.MAX_VALUE; // Return high error if setting fails
+            case INVALID_STABILITY:
+                if (logEvaluation) logCurrent(LogLevel.EVALUATION, "Skipping (NM)", rawValues, stage1Option, stage2Option, outcome.stability, Double.NaN, Double.NaN, Double.NaN, Double.NaN, outcome.message);
+                return Double.MAX_VALUE; // Return high error for invalid stability
+            case STABILITY_OUT_OF_RANGE: {
+                if (logEvaluation) logCurrent(LogLevel.EVALUATION, "Skipping (NM)", rawValues, stage1Option, stage2Option, outcome.stability, Double.NaN, Double.NaN, Double.NaN, Double.NaN, outcome.message);
+                // Return a penalty proportional to how far out of bounds stability is
+                double penalty = Math.max(config.stabilityRange[0] - outcome.stability, outcome.stability - config.stabilityRange[1]);
+                return 1000.0 + penalty * 100; // Large base penalty + proportional penalty
             }
+            case SIMULATION_FAILED:
+                if (logEvaluation) logCurrent(LogLevel.EVALUATION, "Failed (NM Sim)", rawValues, stage1Option, stage2Option, outcome.stability, Double.NaN, Double.NaN, Double.NaN, Double.NaN, outcome.message);
+                return Double.MAX_VALUE; // Return high error on simulation failure
+            case ERROR:
+                if (logEvaluation) logCurrent(LogLevel.EVALUATION, "Failed (NM Eval)", rawValues, stage1Option, stage2Option, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, outcome.message);
+                return Double.MAX_VALUE; // Return high error
+            case ABANDONED:
+                if (logEvaluation) logCurrent(LogLevel.EVALUATION, "Abandoned (NM Sim)", rawValues, stage1Option, stage2Option, outcome.stability, Double.NaN, Double.NaN, Double.NaN, Double.NaN, outcome.message);
+                // Not a real objective value: a lower bound on the error that is at least abandonAbove, so the
+                // point loses the comparison the strategy asked about and is never taken into its search
+                return outcome.errorBound;
+            default:
+                break;
+        }
 
-            // --- Log Interim Results (Optional - can be verbose) ---
-            if (logListener != null) {
-                 // Log less frequently or provide summary status?
-                 // Example: Log every 10 evaluations
-                 // if (evaluationCount % 10 == 0) { ... log interim ... }
-                 // For now, logging every evaluation for debugging:
-                 logInterim(currentRawValues, apogee, duration, altitudeScore, durationScore, totalError);
-            }
-            
-            // Update status listener (optional)
-        if (statusListener != null) {
-                 // Provide a status update, maybe less frequently
-            StringBuilder status = new StringBuilder();
-                 for (FinParameter p : enabledParams) {
-                     status.append(String.format("%s=%.2f ", p.name, p.currentValue));
-                 }
-                 // Add parachute status
-            if (config.enabledParams.getOrDefault("Stage 1 Parachute", true) && stage1Parachute != null) {
-                      status.append(String.format("S1P=%s ", currentStage1Parachute.substring(0, Math.min(5, currentStage1Parachute.length())))); // Abbreviate
+        long phaseStart = System.nanoTime();
+        double stability = outcome.stability;
+        double apogee = outcome.apogee;
+        double duration = outcome.duration;
+
+        // --- Calculate Scores ---
+        double altitudeScore = altitudeScoreOf(apogee);
+        double durationScore = durationScoreOf(duration);
+        double totalError = altitudeScore + durationScore;
+
+        // --- Update Best Values if this is better ---
+        boolean newBest = false;
+        if (totalError < getBestError()) {
+            // Raw values (cm/count) of this candidate, including disabled params at their original values
+            Map<String, Double> values = new HashMap<>();
+            for (int i = 0; i < parameters.size(); i++) {
+                values.put(parameters.get(i).name, rawValues[i]);
             }
-             if (config.enabledParams.getOrDefault("Stage 2 Parachute", true) && stage2Parachute != null) {
-                      status.append(String.format("S2P=%s ", currentStage2Parachute.substring(0, Math.min(5, currentStage2Parachute.length())))); // Abbreviate
+            values.put("apogee", apogee);
+            values.put("duration", duration);
+            values.put("altitudeScore", altitudeScore);
+            values.put("durationScore", durationScore);
+            values.put("totalScore", totalError);
+            // The parachute selections are stored with the result they belong to
+            if (recordIfBest(new BestResult(totalError, Collections.unmodifiableMap(values), stage1Option, stage2Option))) {
+                newBest = true;
+                logCurrent(LogLevel.INFO, "Best (NM)", rawValues, stage1Option, stage2Option, stability, apogee, duration, altitudeScore, durationScore, null);
             }
-                  status.append(String.format("Err=%.2f", totalError));
-            statusListener.updateStatus(status.toString());
+        }
+        metrics.recordSince(EvaluationMetrics.Phase.SCORING, phaseStart);
+        if (logEvaluation && !newBest) {
+            logCurrent(LogLevel.EVALUATION, "Evaluated (NM)", rawValues, stage1Option, stage2Option, stability, apogee, duration, altitudeScore, durationScore, null);
         }
 
-            return totalError; // Return the calculated error for Nelder-Mead
-
-        } catch (Exception e) {
-            // Catch any other unexpected errors during evaluation
-            logCurrent("Failed (NM Eval)", Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, "Eval Error: " + e.getMessage());
-            e.printStackTrace(); // Log stack trace for debugging
-            return Double.MAX_VALUE; // Return high error
+        // --- Publish the evaluation ---
+        if (!evaluationListeners.isEmpty()) {
+            long publishStart = System.nanoTime();
+            EvaluationEvent event = new EvaluationEvent(parameterNames, rawValues, stage1Option, stage2Option,
+                    stability, apogee, duration, altitudeScore, durationScore, newBest);
+            for (EvaluationListener listener : evaluationListeners) {
+                listener.evaluated(event);
+            }
+            metrics.recordSince(EvaluationMetrics.Phase.LOGGING, publishStart);
         }
+
+        return totalError; // Return the calculated error for Nelder-Mead
     }
 
     // Helper to apply current parachute settings
@@ -605,10 +724,10 @@ public class Optimizer {
                     if (preset != null) {
                         ParachuteHelper.applyPreset(stage1Parachute, preset);
                     } else if ("None".equals(currentStage1Parachute)) {
-                      ParachuteHelper.applyPreset(stage1Parachute, originalStage1Preset); // Restore original if 'None'
+                      originalStage1Snapshot.restore(stage1Parachute); // Restore original if 'None'
                     }
              } else {
-                  ParachuteHelper.applyPreset(stage1Parachute, originalStage1Preset); // Ensure original if disabled
+                  originalStage1Snapshot.restore(stage1Parachute); // Ensure original if disabled
                 }
             }
             if (stage2Parachute != null) {
@@ -621,29 +740,33 @@ public class Optimizer {
                     if (preset != null) {
                         ParachuteHelper.applyPreset(stage2Parachute, preset);
                     } else if ("None".equals(currentStage2Parachute)) {
-                      ParachuteHelper.applyPreset(stage2Parachute, originalStage2Preset); // Restore original if 'None'
+                      originalStage2Snapshot.restore(stage2Parachute); // Restore original if 'None'
                   }
               } else {
-                   ParachuteHelper.applyPreset(stage2Parachute, originalStage2Preset); // Ensure original if disabled
+                   originalStage2Snapshot.restore(stage2Parachute); // Ensure original if disabled
               }
          }
     }
 
-    // Helper to log interim results
-    private void logInterim(Map<String, Double> currentRawValues, double apogee, double duration, double altScore, double durScore, double totalError) {
-         StringBuilder interimData = new StringBuilder("INTERIM:");
-         for (Map.Entry<String, Double> entry : currentRawValues.entrySet()) {
-             interimData.append(String.format("%s=%.2f|", entry.getKey(), entry.getValue()));
-         }
-         interimData.append(String.format("stage1Parachute=%s|stage2Parachute=%s|",
-                        currentStage1Parachute, currentStage2Parachute));
-         interimData.append(String.format("apogee=%.1f|duration=%.2f|altitudeScore=%.1f|durationScore=%.2f|totalScore=%.2f",
-                 apogee, duration, altScore, durScore, totalError));
-         if (logListener != null) {
-            logListener.log(interimData.toString());
+    // Report how many parachute combinations were pruned
+    private void reportPruning(int prunedCombinations, int totalCombinations) {
+        log(String.format("Parachute combinations pruned: %d of %d, %d left to search",
+                prunedCombinations, totalCombinations, totalCombinations - prunedCombinations));
+        if (pruningListener != null) {
+            pruningListener.pruned(prunedCombinations, totalCombinations);
         }
     }
 
+    private double altitudeScoreOf(double apogee) {
+        return config.enabledParams.getOrDefault("Altitude Score", true) ?
+                calculateAltitudeScore(apogee, config.altitudeRange[0], config.altitudeRange[1]) : 0.0;
+    }
+
+    private double durationScoreOf(double duration) {
+        return config.enabledParams.getOrDefault("Duration Score", true) ?
+                calculateDurationScore(duration, config.durationRange[0], config.durationRange[1]) : 0.0;
+    }
+
     private double calculateAltitudeScore(double actualAltitude, double min, double max) {
         // If min is "unlimited" (negative infinity), only check upper bound
         if (min == Double.NEGATIVE_INFINITY) {
@@ -669,11 +792,11 @@ public class Optimizer {
         // If min is "unlimited" (negative infinity), only check upper bound
         if (min == Double.NEGATIVE_INFINITY) {
              // Check against POSITIVE_INFINITY max as well
-            return (max == Double.POSITIVE_INFINITY || actualDuration <= max) ? 0 : (actualDuration - max) * 4;
+            return (max == Double.POSITIVE_INFINITY || actualDuration <= max) ? 0 : (actualDuration - max) * DURATION_SCORE_WEIGHT;
         }
         // If max is "unlimited" (POSITIVE_INFINITY), only check lower bound
         else if (max == Double.POSITIVE_INFINITY) {
-            return (actualDuration >= min) ? 0 : (min - actualDuration) * 4;
+            return (actualDuration >= min) ? 0 : (min - actualDuration) * DURATION_SCORE_WEIGHT;
         }
         // Both bounds are specified
         else if (actualDuration >= min && actualDuration <= max) {
@@ -682,15 +805,14 @@ public class Optimizer {
         // Outside of bounds
         else {
             double boundary = (actualDuration < min) ? min : max;
-            return Math.abs(actualDuration - boundary) * 4;
+            return Math.abs(actualDuration - boundary) * DURATION_SCORE_WEIGHT;
         }
     }
 
     // Rewritten main optimization method using Nelder-Mead
     public void optimizeFins() {
         cancelled = false;
-        bestError = Double.MAX_VALUE; // Reset best error
-        bestValues.clear(); // Clear previous best values
+        best.set(null); // Clear previous best values
         currentMajorStep = 0; // Reset progress step counter
 
         // 1. Identify enabled numeric parameters for optimization
@@ -713,156 +835,516 @@ public class Optimizer {
             return;
         }
         
-        // 3. Prepare parachute options
-        List<ComponentPreset> parachutePresets = null;
-        if (parachute1Enabled || parachute2Enabled) {
-            parachutePresets = ParachuteHelper.getAllParachutePresets();
+        // 3. Prepare parachute options (as registry ids)
+        int[] stage1Options = createParachuteOptions(parachute1Enabled, originalStage1Preset);
+        int[] stage2Options = createParachuteOptions(parachute2Enabled, originalStage2Preset);
+        if (anyParachutesEnabled && (config.parachuteDuplicateTolerance > 0 || config.pruneDominatedParachutes)) {
+            int unprunedCombinations = stage1Options.length * stage2Options.length;
+            ParachutePruner.Result stage1Pruning = ParachutePruner.prune(ParachuteRegistry.get(), stage1Options,
+                    config.parachuteDuplicateTolerance, config.pruneDominatedParachutes);
+            ParachutePruner.Result stage2Pruning = ParachutePruner.prune(ParachuteRegistry.get(), stage2Options,
+                    config.parachuteDuplicateTolerance, config.pruneDominatedParachutes);
+            log(String.format("Parachute options pruned: S1 %d -> %d, S2 %d -> %d (near-duplicates: %d, dominated: %d)",
+                    stage1Options.length, stage1Pruning.kept.length, stage2Options.length, stage2Pruning.kept.length,
+                    stage1Pruning.duplicates + stage2Pruning.duplicates, stage1Pruning.dominated + stage2Pruning.dominated));
+            stage1Options = stage1Pruning.kept;
+            stage2Options = stage2Pruning.kept;
+            reportPruning(unprunedCombinations - stage1Options.length * stage2Options.length, unprunedCombinations);
         }
-        List<String> stage1Options = createParachuteOptions(parachute1Enabled, parachutePresets, originalStage1Preset != null ? ParachuteHelper.getPresetDisplayName(originalStage1Preset) : "None");
-        List<String> stage2Options = createParachuteOptions(parachute2Enabled, parachutePresets, originalStage2Preset != null ? ParachuteHelper.getPresetDisplayName(originalStage2Preset) : "None");
         
         // Calculate total major steps (parachute combinations)
-        int totalParachuteCombinations = Math.max(1, stage1Options.size() * stage2Options.size());
+        int totalParachuteCombinations = Math.max(1, stage1Options.length * stage2Options.length);
         
         // Calculate total *estimated* steps for progress reporting
         // Multiply parachute combos by max NM iterations if numeric params are enabled
-        int totalEstimatedSteps = totalParachuteCombinations * (anyNumericParamsEnabled ? NM_MAX_ITERATIONS : 1);
+        int iterationsPerSearch = createStrategy(false).getMaxIterations();
+        int totalEstimatedSteps = totalParachuteCombinations * (anyNumericParamsEnabled ? iterationsPerSearch : 1);
+        boolean orderedSearch = config.orderedParachuteSearch && anyNumericParamsEnabled && totalParachuteCombinations > 1;
+        if (orderedSearch) {
+            totalEstimatedSteps = iterationsPerSearch; // A single run
+        }
         if (totalEstimatedSteps == 0) totalEstimatedSteps = 1; // Ensure at least 1
 
-        // 4. Define the objective function
-        ObjectiveFunction objectiveFunction = point -> evaluateConfigurationWithError(point, enabledNumericParams);
+        // 4. Load one rocket copy per worker thread for the objective evaluations
+        startEvaluation();
+        if (anyNumericParamsEnabled) {
+            log("Search strategy: " + config.strategy);
+        }
 
-        // 5. Iterate through parachute combinations and run Nelder-Mead
+        try {
+            if (orderedSearch) {
+                optimizeParachutesAsOrderedDimensions(stage1Options, stage2Options, enabledNumericParams, totalEstimatedSteps);
+            } else if (anyNumericParamsEnabled && config.concurrentSweep && engine.getWorkerCount() > 1 && totalParachuteCombinations > 1) {
+                sweepParachuteCombinationsConcurrently(stage1Options, stage2Options, enabledNumericParams, totalEstimatedSteps);
+            } else if (anyNumericParamsEnabled) {
+                optimizeParachuteCombinations(stage1Options, stage2Options, enabledNumericParams, totalEstimatedSteps);
+            } else {
+                evaluateParachuteCombinations(stage1Options, stage2Options, enabledNumericParams, totalParachuteCombinations);
+            }
+        } finally {
+            stopEvaluation();
+        }
+        if (cancelled) {
+            best.set(null); // Drop anything recorded by evaluations that were still in flight
+        }
+
+        // 5. Finalization
+        if (!cancelled && progressListener != null) {
+            // Ensure progress bar reaches 100% using the total estimated steps
+            progressListener.updateProgress(0, totalEstimatedSteps, totalEstimatedSteps, 1); 
+        }
+        log("Simulation executor (cumulative): " + SimulationStepper.getMetrics());
+        if (evaluationCache != null) {
+            log("Evaluation cache: " + evaluationCache);
+            evaluationCache = null;
+        }
+        logFinalResults();
+
+        // Optionally, apply the absolute best found parameters back to the rocket model
+        if (hasBestValues()) {
+            applyBestValuesToModel();
+        } else {
+            // If no better solution was found (or optimization failed early),
+            // revert to original values? Or leave as is? Reverting seems safer.
+            revertToOriginalValues(); // Revert components to initial state
+            applyCurrentParachuteSettings(); // Re-apply original parachute settings
+        }
+    }
+
+    // Run a search over the numeric parameters for every parachute combination
+    private void optimizeParachuteCombinations(int[] stage1Options, int[] stage2Options,
+                                               List<FinParameter> enabledNumericParams, int totalEstimatedSteps) {
+        double[][] bounds = createSearchBounds(enabledNumericParams);
+        ParachuteRegistry parachutes = ParachuteRegistry.get();
         int parachuteComboIndex = 0; // Track which parachute combination we are on
-        for (String s1Option : stage1Options) {
-            for (String s2Option : stage2Options) {
+        for (int s1Option : stage1Options) {
+            for (int s2Option : stage2Options) {
                 if (cancelled) break;
                 parachuteComboIndex++;
                 currentMajorStep = parachuteComboIndex; // Update major step counter for logging/status
 
                 // Set current parachute combination
-                currentStage1Parachute = s1Option;
-                currentStage2Parachute = s2Option;
-                applyCurrentParachuteSettings(); // Apply them to the rocket model
+                currentStage1Parachute = parachutes.getDisplayName(s1Option);
+                currentStage2Parachute = parachutes.getDisplayName(s2Option);
 
                  log(String.format("--- Starting Optimization for Parachutes: S1=%s, S2=%s ---",
                                    currentStage1Parachute, currentStage2Parachute));
 
-                if (anyNumericParamsEnabled) {
-                    // Prepare initial guess for numeric parameters
-                     double[] initialGuess = new double[dimensions];
-                     for (int i = 0; i < dimensions; i++) {
-                         // Start guess from the middle of the allowed range or original value?
-                         // Using original value might be better if available and valid.
-                         FinParameter p = enabledNumericParams.get(i);
-                         initialGuess[i] = originalValues.getOrDefault(p.name, (p.currentMin + p.currentMax) / 2.0);
-                         // Ensure initial guess is within bounds
-                         initialGuess[i] = Math.max(p.currentMin, Math.min(p.currentMax, initialGuess[i]));
-                         if ("finCount".equals(p.name)) {
-                             initialGuess[i] = Math.round(initialGuess[i]);
-                         }
-                     }
+                // Prepare initial guess for numeric parameters
+                double[] initialGuess = createInitialGuess(enabledNumericParams);
 
-                    // Create and run Nelder-Mead optimizer
-                    NelderMeadOptimizer nmOptimizer = new NelderMeadOptimizer(objectiveFunction, dimensions, NM_TOLERANCE, NM_MAX_ITERATIONS);
+                // Objective for this parachute combination
+                ObjectiveFunction objectiveFunction = batchedOnEngine((point, abandonAbove) ->
+                        evaluateConfigurationWithError(point, enabledNumericParams, s1Option, s2Option, abandonAbove));
 
-                    // --- Progress Listener Setup for NM ---
-                    if (progressListener != null) {
-                        // Calculate the base progress step for this parachute combination
-                        int baseProgressStep = (parachuteComboIndex - 1) * NM_MAX_ITERATIONS;
-                        // Pass the listener, base step, and total estimated steps to the optimizer
-                        nmOptimizer.setProgressListener(progressListener, baseProgressStep, totalEstimatedSteps);
-                    }
-                    // --------------------------------------
+                // The only search running, so spare cores are available to it
+                OptimizationStrategy strategy = createStrategy(true);
+                int baseProgressStep = (parachuteComboIndex - 1) * strategy.getMaxIterations();
+                strategy.minimize(objectiveFunction, initialGuess, bounds[0], bounds[1],
+                        progressReporter(baseProgressStep, totalEstimatedSteps));
 
-                    double[] bestPoint = nmOptimizer.optimize(initialGuess);
+                // The best result (parameters + score) is updated internally
+                // by evaluateConfigurationWithError whenever a new global minimum is found.
 
-                    // The best result (parameters + score) is updated internally
-                    // by evaluateConfigurationWithError whenever a new global minimum is found.
-                    // We don't need to explicitly update bestValues here unless NM guarantees
-                    // the returned bestPoint corresponds *exactly* to the last recorded bestError.
-                    // It's safer to rely on the internal update within evaluateConfigurationWithError.
+                 log(String.format("--- Finished Optimization for Parachutes: S1=%s, S2=%s. Current Best Error: %.2f ---",
+                                   currentStage1Parachute, currentStage2Parachute, getBestError()));
+            } // End inner loop (stage 2 options)
+            if (cancelled) break;
+        } // End outer loop (stage 1 options)
+    }
 
-                } else {
-                    // No numeric parameters, just evaluate this parachute combination directly
-                    evaluateConfigurationWithError(new double[0], enabledNumericParams); // Pass empty array
-                    if (progressListener != null) {
-                        // When only evaluating parachutes, report progress based on the combo index
-                        // Total steps here is just the number of parachute combinations
-                        progressListener.updateProgress(0, parachuteComboIndex, totalParachuteCombinations, 1);
+    // Optimize the parachutes jointly with the numeric parameters in one search run. Each stage
+    // with a choice adds a dimension in [0, 1] that indexes its options sorted by drag area, so nearby
+    // values mean similar descent behavior. The run is followed by a neighbourhood search that steps
+    // each index to adjacent presets while that improves the best result.
+    private void optimizeParachutesAsOrderedDimensions(int[] stage1Options, int[] stage2Options,
+                                                       List<FinParameter> enabledNumericParams, int totalEstimatedSteps) {
+        int numericDimensions = enabledNumericParams.size();
+        int[] stage1Sorted = sortByDragArea(stage1Options, stage1Parachute);
+        int[] stage2Sorted = sortByDragArea(stage2Options, stage2Parachute);
+        int[][] sortedOptions = {stage1Sorted, stage2Sorted};
+        // Index dimensions, only for stages that actually have a choice
+        List<Integer> searchedStages = new ArrayList<>();
+        if (stage1Sorted.length > 1) searchedStages.add(0);
+        if (stage2Sorted.length > 1) searchedStages.add(1);
+        int dimensions = numericDimensions + searchedStages.size();
+
+        double[] initialGuess = Arrays.copyOf(createInitialGuess(enabledNumericParams), dimensions);
+        double[][] numericBounds = createSearchBounds(enabledNumericParams);
+        double[] lower = Arrays.copyOf(numericBounds[0], dimensions); // Index dimensions span [0, 1]
+        double[] upper = Arrays.copyOf(numericBounds[1], dimensions);
+        Arrays.fill(upper, numericDimensions, dimensions, 1.0);
+        for (int d = 0; d < searchedStages.size(); d++) {
+            int[] sorted = sortedOptions[searchedStages.get(d)];
+            int start = Math.max(0, indexOf(sorted, ParachuteRegistry.NONE)); // Start from the original parachute
+            initialGuess[numericDimensions + d] = (double) start / (sorted.length - 1);
+        }
+
+        log(String.format("--- Searching %d x %d parachute options as ordered dimensions ---", stage1Sorted.length, stage2Sorted.length));
+        ObjectiveFunction objectiveFunction = batchedOnEngine((point, abandonAbove) -> {
+            int[] ids = {stage1Sorted[0], stage2Sorted[0]};
+            for (int d = 0; d < searchedStages.size(); d++) {
+                int[] sorted = sortedOptions[searchedStages.get(d)];
+                double u = Math.max(0.0, Math.min(1.0, point[numericDimensions + d]));
+                ids[searchedStages.get(d)] = sorted[(int) Math.round(u * (sorted.length - 1))];
+            }
+            return evaluateConfigurationWithError(Arrays.copyOf(point, numericDimensions), enabledNumericParams, ids[0], ids[1], abandonAbove);
+        });
+
+        double[] bestPoint = createStrategy(true).minimize(objectiveFunction, initialGuess, lower, upper,
+                progressReporter(0, totalEstimatedSteps));
+        double bestError = objectiveFunction.evaluate(bestPoint); // Normally served from the evaluation cache
+
+        // Neighbourhood search over the sorted indices at the best numeric point
+        boolean improved = true;
+        while (improved && !cancelled) {
+            improved = false;
+            for (int d = 0; d < searchedStages.size() && !cancelled; d++) {
+                int length = sortedOptions[searchedStages.get(d)].length;
+                double step = 1.0 / (length - 1);
+                for (int direction : new int[]{-1, 1}) {
+                    double[] neighbour = Arrays.copyOf(bestPoint, dimensions);
+                    neighbour[numericDimensions + d] = Math.max(0.0, Math.min(1.0, bestPoint[numericDimensions + d] + direction * step));
+                    double error = objectiveFunction.evaluate(neighbour);
+                    if (error < bestError) {
+                        bestError = error;
+                        bestPoint = neighbour;
+                        improved = true;
                     }
                 }
+            }
+        }
+        currentMajorStep = 1;
+        log(String.format("--- Finished Ordered Parachute Search. Current Best Error: %.2f ---", getBestError()));
+    }
 
-                 log(String.format("--- Finished Optimization for Parachutes: S1=%s, S2=%s. Current Best Error: %.2f ---",
-                                   currentStage1Parachute, currentStage2Parachute, bestError));
+    // Parachute options ordered by drag area. "None" (the original parachute) is placed by the
+    // original's own drag area, and options with an unknown drag area go last.
+    private int[] sortByDragArea(int[] options, Parachute originalParachute) {
+        ParachuteRegistry parachutes = ParachuteRegistry.get();
+        double originalDragArea = originalParachute != null ? originalParachute.getCD() * originalParachute.getArea() : Double.NaN;
+        return Arrays.stream(options).boxed()
+                .sorted(Comparator.comparingDouble(id -> {
+                    double dragArea = id == ParachuteRegistry.NONE ? originalDragArea : parachutes.getDragArea(id);
+                    return Double.isNaN(dragArea) ? Double.MAX_VALUE : dragArea;
+                }))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
 
+    private static int indexOf(int[] values, int value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) return i;
+        }
+        return -1;
+    }
 
-            } // End inner loop (stage 2 options)
+    // Run the independent per-combination searches concurrently on a work-stealing pool.
+    // The pool has one thread per rocket copy, so each running search effectively owns a copy;
+    // results are merged through recordIfBest.
+    private void sweepParachuteCombinationsConcurrently(int[] stage1Options, int[] stage2Options,
+                                                        List<FinParameter> enabledNumericParams, int totalEstimatedSteps) {
+        int dimensions = enabledNumericParams.size();
+        double[] initialGuess = createInitialGuess(enabledNumericParams);
+        double[][] bounds = createSearchBounds(enabledNumericParams);
+        int totalCombinations = stage1Options.length * stage2Options.length;
+        ParachuteRegistry parachutes = ParachuteRegistry.get();
+        AtomicInteger stepsDone = new AtomicInteger();
+        AtomicInteger combinationsDone = new AtomicInteger();
+
+        log(String.format("--- Searching %d parachute combinations concurrently ---", totalCombinations));
+        ExecutorService pool = Executors.newWorkStealingPool(engine.getWorkerCount());
+        sweepTasks.clear();
+        try {
+            for (int s1Option : stage1Options) {
+                for (int s2Option : stage2Options) {
                     if (cancelled) break;
-        } // End outer loop (stage 1 options)
+                    sweepTasks.add(pool.submit(() -> {
+                        if (cancelled) return;
+                        ObjectiveFunction objectiveFunction = batchedOnEngine((point, abandonAbove) ->
+                        evaluateConfigurationWithError(point, enabledNumericParams, s1Option, s2Option, abandonAbove));
+                        OptimizationStrategy strategy = createStrategy(false);
+                        int[] iterations = {0};
+                        // Searches finish out of order, so report a shared count of completed iterations
+                        strategy.minimize(objectiveFunction, Arrays.copyOf(initialGuess, dimensions), bounds[0], bounds[1], iteration -> {
+                            iterations[0]++;
+                            if (progressListener != null) {
+                                progressListener.updateProgress(0, stepsDone.incrementAndGet(), totalEstimatedSteps, 1);
+                            }
+                        });
+                        // Credit iterations skipped by early convergence so the bar still reaches the total
+                        stepsDone.addAndGet(strategy.getMaxIterations() - iterations[0]);
+                        int done = combinationsDone.incrementAndGet();
+                        currentMajorStep = done;
+                        log(String.format("--- Finished Optimization for Parachutes: S1=%s, S2=%s (%d/%d). Current Best Error: %.2f ---",
+                                          parachutes.getDisplayName(s1Option), parachutes.getDisplayName(s2Option),
+                                          done, totalCombinations, getBestError()));
+                    }));
+                }
+                if (cancelled) break;
+            }
 
+            List<Future<?>> submitted;
+            synchronized (sweepTasks) {
+                submitted = new ArrayList<>(sweepTasks);
+            }
+            for (Future<?> task : submitted) {
+                try {
+                    task.get();
+                } catch (CancellationException e) {
+                    // Cancelled via cancel()
+                } catch (ExecutionException e) {
+                    log(LogLevel.WARNING, "Parachute combination search failed: " + e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } finally {
+            sweepTasks.clear();
+            pool.shutdownNow();
+            try {
+                // Let searches that were mid-evaluation when cancelled wind down before the engine goes away
+                pool.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
 
-        // 6. Finalization
-        if (!cancelled && progressListener != null) {
-            // Ensure progress bar reaches 100% using the total estimated steps
-            progressListener.updateProgress(0, totalEstimatedSteps, totalEstimatedSteps, 1); 
+    // Start the rocket copies and the caches, store and pre-screen the evaluations go through
+    private void startEvaluation() {
+        try {
+            engine = config.remoteWorkers > 0
+                    ? EvaluationEngine.startRemote(new File(config.orkPath), parameters, config, config.remoteWorkers)
+                    : EvaluationEngine.start(new File(config.orkPath), parameters, config, config.workerThreads);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to load rocket copies for evaluation: " + e.getMessage(), e);
         }
-        logFinalResults();
+        log(String.format("Evaluating candidates on %d parallel rocket copies%s", engine.getWorkerCount(),
+                config.remoteWorkers > 0 ? " in worker processes" : ""));
+        evaluationCache = config.evaluationCacheSize > 0 ? new EvaluationCache(config.evaluationCacheSize) : null;
+        coarseKeySalt = EvaluationCache.hashName("coarse x" + config.coarseTimeStepFactor);
+        coarseEvaluations.set(0);
+        fidelityPromotions.set(0);
+        metrics.reset();
+        engine.setMetrics(metrics);
+        optimizerLog.setEvaluationInterval(config.logEveryNthEvaluation);
+        parameterNames = new String[parameters.size()];
+        for (int i = 0; i < parameters.size(); i++) {
+            parameterNames[i] = parameters.get(i).name;
+        }
+        if (config.metricsIntervalSeconds > 0) {
+            metricsReporter = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "evaluation-metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            metricsReporter.scheduleAtFixedRate(() -> log("Metrics: " + metrics.summary()),
+                    config.metricsIntervalSeconds, config.metricsIntervalSeconds, TimeUnit.SECONDS);
+        }
+        descentModel = null;
+        if (config.analyticDescent) {
+            descentModel = new DescentModel(baseOptions, config.descentTolerance);
+            engine.setDescentModel(descentModel);
+        }
+        stabilityEstimator = null;
+        if (config.stabilityPrescreen) {
+            double[] baselineValues = new double[parameters.size()];
+            for (int i = 0; i < parameters.size(); i++) {
+                baselineValues[i] = originalValues.get(parameters.get(i).name);
+            }
+            try {
+                stabilityEstimator = engine.createStabilityEstimator(baselineValues);
+            } catch (Exception e) {
+                log(LogLevel.WARNING, "Stability pre-screen unavailable: " + e.getMessage());
+            }
+        }
+        if (config.persistentResults) {
+            try {
+                resultStore = ResultStore.open(new File(config.orkPath), baseOptions);
+                log("Result store: " + resultStore);
+            } catch (IOException e) {
+                log(LogLevel.WARNING, "Result store unavailable, all points will be simulated: " + e.getMessage());
+                resultStore = null;
+            }
+        }
+    }
 
-        // Optionally, apply the absolute best found parameters back to the rocket model
-        if (!bestValues.isEmpty()) {
-            applyBestValuesToModel();
-        } else {
-            // If no better solution was found (or optimization failed early),
-            // revert to original values? Or leave as is? Reverting seems safer.
-            revertToOriginalValues(); // Revert components to initial state
-            applyCurrentParachuteSettings(); // Re-apply original parachute settings
+    // Shut down what startEvaluation started and log its statistics
+    private void stopEvaluation() {
+        if (metricsReporter != null) {
+            metricsReporter.shutdownNow();
+            metricsReporter = null;
+        }
+        log("Metrics: " + metrics.summary());
+        log("Stability: " + engine.getStabilityStats());
+        log("Early exit: " + engine.getEarlyExitStats());
+        if (engine.getRemoteStats() != null) {
+            log("Worker processes: " + engine.getRemoteStats());
+        }
+        if (descentModel != null) {
+            log("Analytic descent: " + descentModel);
+            descentModel = null;
+        }
+        if (config.multiFidelity) {
+            log(String.format("Multi-fidelity: %d candidates screened at coarse fidelity, %d re-run at full fidelity",
+                    coarseEvaluations.get(), fidelityPromotions.get()));
+        }
+        if (stabilityEstimator != null) {
+            log("Stability pre-screen: " + stabilityEstimator);
+            stabilityEstimator = null;
         }
+        engine.shutdown();
+        engine = null;
+        closeResultStore();
     }
 
-    // Helper method to create parachute option list
-    private List<String> createParachuteOptions(boolean enabled, List<ComponentPreset> presets, String currentSetting) {
-        List<String> options = new ArrayList<>();
-        if (enabled && presets != null) {
-            options.add("None"); // No parachute option
-            for (ComponentPreset preset : presets) {
-                options.add(ParachuteHelper.getPresetDisplayName(preset));
+    private void closeResultStore() {
+        if (resultStore == null) return;
+        log("Result store: " + resultStore);
+        try {
+            resultStore.close();
+        } catch (IOException e) {
+            log(LogLevel.WARNING, "Failed to close result store: " + e.getMessage());
+        }
+        resultStore = null;
+    }
+
+    // Wrap an objective so batches of independent points are spread over the engine's rocket copies
+    private ObjectiveFunction batchedOnEngine(AbandoningObjective function) {
+        EvaluationEngine engine = this.engine;
+        return new ObjectiveFunction() {
+            @Override
+            public double evaluate(double[] point) {
+                return function.evaluate(point, Double.MAX_VALUE);
             }
-            // Ensure the current setting is included if it's a valid preset or "None"
-            boolean currentFound = false;
-            for(String opt : options) {
-                if (opt.equals(currentSetting)) {
-                    currentFound = true;
-                    break;
+
+            @Override
+            public double evaluate(double[] point, double abandonAbove) {
+                return function.evaluate(point, abandonAbove);
+            }
+
+            @Override
+            public double[] evaluateBatch(double[][] points) {
+                double[] abandonAbove = new double[points.length];
+                Arrays.fill(abandonAbove, Double.MAX_VALUE);
+                return engine.evaluateAll(this, points, abandonAbove);
+            }
+
+            @Override
+            public double[] evaluateBatch(double[][] points, double[] abandonAbove) {
+                return engine.evaluateAll(this, points, abandonAbove);
+            }
+        };
+    }
+
+    /**
+     * Create the configured search strategy.
+     * @param singleSearch Whether this is the only search running, so it may use every worker for one batch
+     */
+    private OptimizationStrategy createStrategy(boolean singleSearch) {
+        int minPopulation = singleSearch && engine != null ? engine.getWorkerCount() : 0;
+        switch (config.strategy) {
+            case CMA_ES:
+                return new CmaEsStrategy(config.populationGenerations, minPopulation, NM_TOLERANCE, new Random());
+            case DIFFERENTIAL_EVOLUTION:
+                return new DifferentialEvolutionStrategy(config.populationGenerations, minPopulation, NM_TOLERANCE, new Random());
+            case BAYESIAN:
+                return new BayesianStrategy(config.surrogateRounds, config.surrogateBatchSize, NM_TOLERANCE, new Random());
+            case NELDER_MEAD:
+            default:
+                if (config.multiStarts > 1) {
+                    // The starts keep the workers busy, so each simplex runs sequentially
+                    int parallelism = singleSearch && engine != null ? engine.getWorkerCount() : 1;
+                    return new MultiStartStrategy(new NelderMeadStrategy(NM_TOLERANCE, NM_MAX_ITERATIONS, false),
+                            config.multiStarts, parallelism, new Random(), this::log);
                 }
+                return new NelderMeadStrategy(NM_TOLERANCE, NM_MAX_ITERATIONS, singleSearch && config.speculativeSimplex);
+        }
+    }
+
+    // Forward iteration starts to the progress listener, offset by the steps of earlier searches
+    private OptimizationStrategy.IterationListener progressReporter(int baseProgressStep, int totalEstimatedSteps) {
+        return iteration -> {
+            if (progressListener != null) {
+                progressListener.updateProgress(0, baseProgressStep + iteration, totalEstimatedSteps, 1);
             }
-             // Add the original/current setting if it wasn't already in the list
-             // This handles custom parachutes or cases where the original wasn't a standard preset
-             if (!currentFound && currentSetting != null && !currentSetting.isEmpty()) {
-                 // Check if it's a known preset display name first
-                 boolean isKnownPreset = false;
-                 if (presets != null) {
-                    for(ComponentPreset p : presets) {
-                        if(ParachuteHelper.getPresetDisplayName(p).equals(currentSetting)) {
-                            isKnownPreset = true;
-                            break;
-                        }
+        };
+    }
+
+    // Finite search box {lower, upper} for the population strategies. Parameters without an upper
+    // limit get a box of twice the original value, or at least ten initial steps.
+    private double[][] createSearchBounds(List<FinParameter> enabledNumericParams) {
+        double[] lower = new double[enabledNumericParams.size()];
+        double[] upper = new double[enabledNumericParams.size()];
+        for (int i = 0; i < lower.length; i++) {
+            FinParameter p = enabledNumericParams.get(i);
+            lower[i] = p.currentMin;
+            if (p.currentMax != Double.MAX_VALUE && p.currentMax != Double.POSITIVE_INFINITY) {
+                upper[i] = p.currentMax;
+            } else {
+                double original = originalValues.getOrDefault(p.name, p.currentMin);
+                upper[i] = Math.max(2 * original, p.currentMin + 10 * p.step);
+            }
+        }
+        return new double[][]{lower, upper};
+    }
+
+    // Initial guess for the numeric parameters: the design's original values, clamped to the current bounds
+    private double[] createInitialGuess(List<FinParameter> enabledNumericParams) {
+        double[] initialGuess = new double[enabledNumericParams.size()];
+        for (int i = 0; i < initialGuess.length; i++) {
+            // Start guess from the middle of the allowed range or original value?
+            // Using original value might be better if available and valid.
+            FinParameter p = enabledNumericParams.get(i);
+            initialGuess[i] = originalValues.getOrDefault(p.name, (p.currentMin + p.currentMax) / 2.0);
+            // Ensure initial guess is within bounds
+            initialGuess[i] = Math.max(p.currentMin, Math.min(p.currentMax, initialGuess[i]));
+            if ("finCount".equals(p.name)) {
+                initialGuess[i] = Math.round(initialGuess[i]);
+            }
+        }
+        return initialGuess;
+    }
+
+    // No numeric parameters: each parachute combination is a single, independent evaluation,
+    // so the whole cross product is evaluated in parallel on the engine's rocket copies
+    private void evaluateParachuteCombinations(int[] stage1Options, int[] stage2Options,
+                                               List<FinParameter> enabledNumericParams, int totalParachuteCombinations) {
+        AtomicInteger completed = new AtomicInteger();
+        List<Callable<Double>> tasks = new ArrayList<>();
+        for (int s1Option : stage1Options) {
+            for (int s2Option : stage2Options) {
+                tasks.add(() -> {
+                    double error = evaluateConfigurationWithError(new double[0], enabledNumericParams, s1Option, s2Option);
+                    int done = completed.incrementAndGet();
+                    if (progressListener != null) {
+                        // When only evaluating parachutes, report progress based on completed combinations
+                        progressListener.updateProgress(0, done, totalParachuteCombinations, 1);
                     }
-                 }
-                 // Only add if it's not "None" and not a known preset already added
-                 if (!"None".equals(currentSetting) && !isKnownPreset) {
-                    options.add(currentSetting);
-                 } else if ("None".equals(currentSetting) && !options.contains("None")) {
-                     options.add("None"); // Make sure None is present if it was the original
-                 }
-             }
+                    return error;
+                });
+            }
+        }
+        engine.invokeAll(tasks, Double.MAX_VALUE);
+        currentMajorStep = completed.get();
+    }
 
-        } else {
-            // Just use the current setting if not enabled or no presets
-            options.add(currentSetting);
+    // Helper method to create the parachute option list (registry ids). "None" keeps the
+    // original parachute, which also covers an original that is not a database preset.
+    private int[] createParachuteOptions(boolean enabled, ComponentPreset originalPreset) {
+        ParachuteRegistry parachutes = ParachuteRegistry.get();
+        if (!enabled) {
+            // Just use the current setting if not enabled
+            return new int[]{parachutes.idOf(originalPreset)};
+        }
+        int[] options = new int[parachutes.size() + 1];
+        options[0] = ParachuteRegistry.NONE; // No parachute option
+        for (int id = 0; id < parachutes.size(); id++) {
+            options[id + 1] = id;
         }
-        // Remove duplicates just in case
-        return options.stream().distinct().collect(Collectors.toList());
+        return options;
     }
 
     // Helper method to apply parachute preset
@@ -884,7 +1366,7 @@ public class Optimizer {
             }
             // Or try to apply the original preset? Applying original seems safer if the name is unrecognized.
             else if (!"None".equals(option) && preset == null) {
-                 log(String.format("Warning: Could not find preset for %s. Applying original preset instead.", option)); 
+                 log(LogLevel.WARNING, String.format("Warning: Could not find preset for %s. Applying original preset instead.", option)); 
                  ParachuteHelper.applyPreset(parachute, originalPreset);
                  // Update the currentStage parachute name back to the original if we reverted
                  if (parachute == stage1Parachute && originalPreset != null) currentStage1Parachute = ParachuteHelper.getPresetDisplayName(originalPreset);
@@ -904,7 +1386,7 @@ public class Optimizer {
             .orElseThrow(() -> new IllegalArgumentException("Unknown parameter name: " + paramName));
 
         // Get the *best* raw value found, not the transient currentValue
-        double bestRawValue = bestValues.getOrDefault(paramName, originalValues.get(paramName));
+        double bestRawValue = getBestValues().getOrDefault(paramName, originalValues.get(paramName));
 
         return param.converter.apply(bestRawValue);
     }
@@ -917,19 +1399,22 @@ public class Optimizer {
             .orElseThrow(() -> new IllegalArgumentException("Unknown parameter name: " + paramName));
 
         // Get the *best* raw value found
-        return bestValues.getOrDefault(paramName, originalValues.get(paramName));
+        return getBestValues().getOrDefault(paramName, originalValues.get(paramName));
     }
 
-    private void logCurrent(String status, double stability, double apogee, double duration,
+    private void logCurrent(LogLevel level, String status, double[] rawValues, String stage1Option, String stage2Option,
+                            double stability, double apogee, double duration,
                             double altScore, double durScore, String reason) {
+        if (!optimizerLog.isEnabled(level)) return;
+        long start = System.nanoTime();
         StringBuilder log = new StringBuilder(status + ":");
         // Log current values being *evaluated*
-        for (FinParameter param : parameters) {
+        for (int i = 0; i < parameters.size(); i++) {
              // Only log enabled parameters for brevity? Or all? Log all for now.
-             log.append(String.format(" %s=%.2f", param.name, param.currentValue)); // Log the value being tested
+             log.append(String.format(" %s=%.2f", parameters.get(i).name, rawValues[i])); // Log the value being tested
         }
          // Log current parachutes being tested
-         log.append(String.format(" S1P=%s S2P=%s", currentStage1Parachute, currentStage2Parachute));
+         log.append(String.format(" S1P=%s S2P=%s", stage1Option, stage2Option));
 
         // Log results if available
         if (!Double.isNaN(apogee)) log.append(String.format(" | Apogee=%.1fm (Δ=%.1f)", apogee, altScore));
@@ -941,17 +1426,17 @@ public class Optimizer {
             log.append(" | Reason=").append(reason);
         }
 
-        String message = log.toString();
-        if (logListener != null) {
-            logListener.log(message);
-        }
+        optimizerLog.log(level, log.toString());
+        metrics.recordSince(EvaluationMetrics.Phase.LOGGING, start);
     }
 
     private void logFinalResults() {
-        if (bestValues.isEmpty()) {
+        BestResult result = best.get();
+        if (result == null) {
              log("=== Optimization Complete (No improvement found or cancelled early) ===");
              return;
         }
+        Map<String, Double> bestValues = result.values;
 
         String results = "=== Optimization Complete ===";
         results += String.format("Best Total Score: %.2f%n", bestValues.get("totalScore"));
@@ -972,60 +1457,13 @@ public class Optimizer {
             }
         }
          // Log best parachutes found
-         results += String.format("  Stage 1 Parachute: %s%n", bestStage1Parachute);
-         results += String.format("  Stage 2 Parachute: %s%n", bestStage2Parachute);
-
-        if (logListener != null) {
-            logListener.log(results);
-        }
-    }
-
-    private double calculateStability() {
-        try {
-            FlightConfiguration config = rocket.getSelectedConfiguration();
-            RigidBody launchData = MassCalculator.calculateLaunch(config);
-            Coordinate cg = launchData.getCM();
-            if (cg.weight <= 1e-9) {
-                throw new RuntimeException("Invalid CG");
-            }
-
-            AerodynamicCalculator aeroCalc = new BarrowmanCalculator();
-            FlightConditions conditions = new FlightConditions(config);
-            conditions.setMach(0.3);
-            conditions.setAOA(0);
-            conditions.setRollRate(0);
-
-            Coordinate cp = aeroCalc.getWorstCP(config, conditions, new WarningSet());
-            // Return NaN if CP calculation failed
-            if (cp.weight <= 1e-9) {
-                // log("Warning: Invalid CP calculated."); // Optional logging
-                return Double.NaN; 
-            }
+         results += String.format("  Stage 1 Parachute: %s%n", result.stage1Parachute);
+         results += String.format("  Stage 2 Parachute: %s%n", result.stage2Parachute);
 
-            double absoluteStability = cp.x - cg.x;
-            double caliber = 0;
-            for (RocketComponent c : config.getAllComponents()) {
-                if (c instanceof SymmetricComponent) {
-                    SymmetricComponent sym = (SymmetricComponent) c;
-                    caliber = Math.max(caliber, Math.max(sym.getForeRadius(), sym.getAftRadius()) * 2);
-                }
-            }
-            // Return NaN if caliber calculation fails
-            if (caliber <= 1e-9) { // Use small epsilon instead of 0
-                 // log("Warning: Invalid caliber calculated."); // Optional logging
-                 return Double.NaN;
-            }
-
-            return absoluteStability / caliber;
-        } catch (Exception e) {
-            // Log the exception and return NaN for any other stability calculation failure
-            log("Error during stability calculation: " + e.getMessage());
-            // e.printStackTrace(); // Optionally print stack trace for debugging
-            return Double.NaN; 
-        }
+        optimizerLog.log(LogLevel.INFO, results);
     }
 
-    private NoseCone findNoseCone(RocketComponent component) {
+    static NoseCone findNoseCone(RocketComponent component) {
         if (component instanceof NoseCone) {
             return (NoseCone) component;
         }
@@ -1040,7 +1478,7 @@ public class Optimizer {
 
     // Modified saveOptimizedDesign to use bestValues map
     public void saveOptimizedDesign(File file) throws Exception {
-        if (bestValues.isEmpty()) {
+        if (!hasBestValues()) {
             throw new IllegalStateException("No optimized results available to save.");
         }
 
@@ -1062,14 +1500,16 @@ public class Optimizer {
                  throw new IOException("Errors encountered during save: " + errors.toString());
              }
              if (!warnings.isEmpty()) {
-                 log("Warnings during save: " + warnings.toString());
+                 log(LogLevel.WARNING, "Warnings during save: " + warnings.toString());
              }
         }
     }
 
      // Helper method to apply the best found parameters to the model components
      private void applyBestValuesToModel() {
-         if (bestValues.isEmpty()) return;
+         BestResult result = best.get();
+         if (result == null) return;
+         Map<String, Double> bestValues = result.values;
 
          // Apply best numeric parameters
          for (FinParameter param : parameters) {
@@ -1086,7 +1526,7 @@ public class Optimizer {
                          case "noseWallThickness": noseCone.setThickness(convertedValue); break;
                      }
                  } catch (Exception e) {
-                     log("Error applying best value for " + param.name + ": " + e.getMessage());
+                     log(LogLevel.WARNING, "Error applying best value for " + param.name + ": " + e.getMessage());
                  }
              } else {
                  // If a parameter wasn't optimized/in bestValues, ensure it's set to original
@@ -1103,15 +1543,15 @@ public class Optimizer {
                              case "noseWallThickness": noseCone.setThickness(convertedValue); break;
                          }
                       } catch (Exception e) {
-                         log("Error applying original value for " + param.name + ": " + e.getMessage());
+                         log(LogLevel.WARNING, "Error applying original value for " + param.name + ": " + e.getMessage());
                       }
                   }
              }
          }
 
          // Apply best parachute settings
-         currentStage1Parachute = bestStage1Parachute; // Update current setting to best
-         currentStage2Parachute = bestStage2Parachute;
+         currentStage1Parachute = result.stage1Parachute; // Update current setting to best
+         currentStage2Parachute = result.stage2Parachute;
          applyCurrentParachuteSettings(); // Apply the best presets
      }
 
@@ -1155,7 +1595,7 @@ public class Optimizer {
                     } else { // Default fallback: clamp min to max
                      effectiveMin = effectiveMax; 
                     }
-                    log(String.format("Warning: Bounds conflict for %s. Clamped range to [%.2f, %.2f]",
+                    log(LogLevel.WARNING, String.format("Warning: Bounds conflict for %s. Clamped range to [%.2f, %.2f]",
                                        paramName, effectiveMin, effectiveMax));
                 }
 
@@ -1234,13 +1674,18 @@ public class Optimizer {
     public void cancel() {
         this.cancelled = true;
         log("Optimization cancelled by user");
+        // Drop queued parachute-combination searches; running ones stop at their next evaluation
+        synchronized (sweepTasks) {
+            for (Future<?> task : sweepTasks) {
+                task.cancel(true);
+            }
+        }
         // Revert components to their state *before* optimization started
         revertToOriginalValues();
         // Apply original parachute settings as well
         applyCurrentParachuteSettings(); // Since currentStageXParachute was reset in revert
          // Clear any potentially incomplete best values
-         bestValues.clear();
-         bestError = Double.MAX_VALUE;
+         best.set(null);
     }
     
     /**
@@ -1267,7 +1712,7 @@ public class Optimizer {
                         case "noseWallThickness": noseCone.setThickness(convertedValue); break;
                     }
                 } catch (Exception e) {
-                     log("Error reverting " + param.name + ": " + e.getMessage());
+                     log(LogLevel.WARNING, "Error reverting " + param.name + ": " + e.getMessage());
                  }
             }
         }
@@ -1281,32 +1726,32 @@ public class Optimizer {
     }
     
     private void log(String message) {
-        if (logListener != null) {
-            logListener.log(message);
-        }
+        optimizerLog.log(LogLevel.INFO, message);
+    }
+
+    private void log(LogLevel level, String message) {
+        optimizerLog.log(level, message);
     }
 
     // Add parachute getter and setter methods
     public void setStage1Parachute(String name) {
         this.currentStage1Parachute = name;
-        if (hasBestValues()) {
-            this.bestStage1Parachute = name;
-        }
+        best.updateAndGet(b -> b != null ? b.withParachutes(name, b.stage2Parachute) : null);
     }
 
     public void setStage2Parachute(String name) {
         this.currentStage2Parachute = name;
-        if (hasBestValues()) {
-            this.bestStage2Parachute = name;
-        }
+        best.updateAndGet(b -> b != null ? b.withParachutes(b.stage1Parachute, name) : null);
     }
 
     public String getBestStage1Parachute() {
-        return bestStage1Parachute;
+        BestResult current = best.get();
+        return current != null ? current.stage1Parachute : bestStage1Parachute;
     }
 
     public String getBestStage2Parachute() {
-        return bestStage2Parachute;
+        BestResult current = best.get();
+        return current != null ? current.stage2Parachute : bestStage2Parachute;
     }
 
     // Now returns original values in CM / count
@@ -1316,18 +1761,18 @@ public class Optimizer {
     }
 
     // Find the first parachute in the rocket
-    private Parachute findFirstParachute(RocketComponent component) {
+    static Parachute findFirstParachute(RocketComponent component) {
         return findParachuteRecursive(component, null);
     }
     
     // Find the second parachute in the rocket
-    private Parachute findSecondParachute(RocketComponent component) {
+    static Parachute findSecondParachute(RocketComponent component) {
         Parachute first = findFirstParachute(component);
         return first != null ? findParachuteRecursive(component, first) : null;
     }
     
     // Helper method to find parachutes recursively
-    private Parachute findParachuteRecursive(RocketComponent component, Parachute skipParachute) {
+    private static Parachute findParachuteRecursive(RocketComponent component, Parachute skipParachute) {
         if (component instanceof Parachute) {
             if (skipParachute == null || component != skipParachute) {
                 return (Parachute) component;
@@ -0,0 +1,374 @@
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import net.sf.openrocket.startup.Application;
+import net.sf.openrocket.startup.GuiModule;
+import net.sf.openrocket.plugin.PluginModule;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Headless entry point: optimizes one or more ORK files without a window.
+ *
+ * Usage: {@code OptimizerCLI [-o outputDir] [--no-save] settings.properties [design.ork ...]}
+ * or {@code OptimizerCLI --batch designDir [-o resultsDir] [--cores n] [--jobs n] settings.properties}
+ *
+ * The settings file uses the GUI's format (orkPath, stabilityMin/Max and
+ * {@code <Parameter>.enabled/.min/.max} with spaces removed from the names), so a saved
+ * {@code ~/.rocketoptimizer.properties} works as is. It may also set the tuning options of
+ * {@link Optimizer.OptimizationConfig} by field name (strategy, workerThreads, ...) and the
+ * log level (logLevel=WARNING, INFO or EVALUATION); any other key, or a value that does not
+ * parse, ends the run before it starts. Design files on the command line replace orkPath;
+ * all of them run in the same JVM, so OpenRocket and the parachute presets are loaded once.
+ * Each design gets a {@code <name>-results.properties} and, unless --no-save is given, a
+ * {@code <name>-optimized.ork}. With --batch, every design in the directory runs through a
+ * {@link JobQueue}, several at a time.
+ */
+public class OptimizerCLI {
+    // Rows of the GUI table, in the same order
+    private static final String[] PARAMETERS = {
+        "Apogee", "Duration", "Fin Thickness (cm)", "Root Chord (cm)", "Fin Height (cm)",
+        "Number of Fins", "Nose Cone Length (cm)", "Nose Cone Wall Thickness (cm)",
+        "Stage 1 Parachute", "Stage 2 Parachute"
+    };
+
+    public static void main(String[] args) {
+        File outputDir = null;
+        boolean save = true;
+        File batchDir = null;
+        int cores = Runtime.getRuntime().availableProcessors();
+        int concurrentJobs = -1;
+        List<String> positional = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("-o".equals(args[i]) && i + 1 < args.length) {
+                outputDir = new File(args[++i]);
+            } else if ("--no-save".equals(args[i])) {
+                save = false;
+            } else if ("--batch".equals(args[i]) && i + 1 < args.length) {
+                batchDir = new File(args[++i]);
+            } else if ("--cores".equals(args[i]) && i + 1 < args.length) {
+                cores = parseCount(args[++i], 1);
+            } else if ("--jobs".equals(args[i]) && i + 1 < args.length) {
+                concurrentJobs = parseCount(args[++i], 0);
+            } else {
+                positional.add(args[i]);
+            }
+        }
+        if (positional.isEmpty()) {
+            usage();
+        }
+
+        Properties settings = new Properties();
+        try (InputStream in = new FileInputStream(positional.get(0))) {
+            settings.load(in);
+        } catch (IOException e) {
+            System.err.println("Cannot read settings: " + e.getMessage());
+            System.exit(2);
+        }
+        try {
+            // Fail before any design runs rather than once per design
+            applyOptions(new Optimizer.OptimizationConfig(), settings);
+            logListener(settings, message -> { });
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid settings: " + e.getMessage());
+            System.exit(2);
+        }
+        List<String> designs = new ArrayList<>(positional.subList(1, positional.size()));
+        if (batchDir != null) {
+            if (outputDir == null) outputDir = new File(batchDir, "results");
+        } else if (designs.isEmpty()) {
+            String orkPath = settings.getProperty("orkPath", "").trim();
+            if (orkPath.isEmpty()) {
+                System.err.println("No design file given and no orkPath in the settings");
+                System.exit(2);
+            }
+            designs.add(orkPath);
+        }
+        if (outputDir != null && !outputDir.isDirectory() && !outputDir.mkdirs()) {
+            System.err.println("Cannot create output directory " + outputDir);
+            System.exit(2);
+        }
+
+        startOpenRocket();
+        ParachuteRegistry.get(); // Shared by every design below
+
+        if (batchDir != null) {
+            // By default about four worker threads per job: enough for the parallel searches,
+            // while several jobs keep the cores busy through each job's serial phases
+            if (concurrentJobs <= 0) concurrentJobs = Math.max(1, cores / 4);
+            System.exit(runBatch(batchDir, settings, outputDir, cores, concurrentJobs));
+        }
+
+        int failures = 0;
+        for (String design : designs) {
+            try {
+                run(new File(design), settings, outputDir, save);
+            } catch (Exception e) {
+                failures++;
+                System.err.println(design + ": optimization failed: " + e.getMessage());
+            }
+        }
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    private static void usage() {
+        System.err.println("Usage: OptimizerCLI [-o outputDir] [--no-save] settings.properties [design.ork ...]");
+        System.err.println("       OptimizerCLI --batch designDir [-o resultsDir] [--cores n] [--jobs n] settings.properties");
+        System.exit(2);
+    }
+
+    // A count given on the command line; anything that is not a number of at least min ends with the usage
+    private static int parseCount(String value, int min) {
+        try {
+            int count = Integer.parseInt(value);
+            if (count >= min) return count;
+        } catch (NumberFormatException e) {
+            // Fall through to the usage
+        }
+        System.err.println("Invalid count: " + value);
+        usage();
+        return min;
+    }
+
+    /**
+     * Start OpenRocket without a display. Version 23.09 only ships GuiModule to wire the preset
+     * and motor databases; it starts loader threads but no Swing components, and headless AWT
+     * keeps it from touching a display.
+     */
+    static void startOpenRocket() {
+        System.setProperty("java.awt.headless", "true");
+        GuiModule guiModule = new GuiModule();
+        Injector injector = Guice.createInjector(guiModule, new PluginModule());
+        Application.setInjector(injector);
+        guiModule.startLoader();
+    }
+
+    private static int runBatch(File batchDir, Properties settings, File resultsDir, int cores, int concurrentJobs) {
+        JobQueue queue = new JobQueue(cores, concurrentJobs, resultsDir);
+        try {
+            int count = queue.submitDirectory(batchDir, settings);
+            System.out.println(String.format("Running %d jobs, %d at a time on %d cores", count, concurrentJobs, cores));
+            int failures = 0;
+            for (JobQueue.JobResult result : queue.runAll()) {
+                if (!result.succeeded) failures++;
+                System.out.println(String.format("%s: %s (%.1f s)", result.design.getName(),
+                        result.succeeded ? "total score " + result.totalScore : "failed: " + result.error,
+                        result.initializeSeconds + result.optimizeSeconds));
+            }
+            System.out.println("Results written to " + resultsDir);
+            return failures == 0 ? 0 : 1;
+        } catch (IOException e) {
+            System.err.println("Batch failed: " + e.getMessage());
+            return 2;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+    }
+
+    private static void run(File design, Properties settings, File outputDir, boolean save) throws Exception {
+        System.out.println("=== " + design + " ===");
+        Optimizer optimizer = new Optimizer();
+        configure(optimizer, design, settings);
+        optimizer.setLogListener(logListener(settings, System.out::println));
+
+        optimizer.initialize();
+        applyBounds(optimizer, settings);
+        optimizer.optimizeFins();
+
+        File dir = outputDir != null ? outputDir : design.getAbsoluteFile().getParentFile();
+        File resultsFile = writeResults(optimizer, design, dir, save, new Properties());
+        System.out.println("Results written to " + resultsFile);
+    }
+
+    /**
+     * Set up a new optimizer for a design from settings in the GUI's format
+     */
+    static void configure(Optimizer optimizer, File design, Properties settings) {
+        Optimizer.OptimizationConfig config = optimizer.getConfig();
+        config.orkPath = design.getPath();
+        config.stabilityRange = new double[]{
+            parseBound(settings.getProperty("stabilityMin"), Double.NEGATIVE_INFINITY),
+            parseBound(settings.getProperty("stabilityMax"), Double.POSITIVE_INFINITY)
+        };
+        applyOptions(config, settings);
+
+        Map<String, Boolean> enabledParams = new HashMap<>();
+        for (String param : PARAMETERS) {
+            enabledParams.put(optimizerKey(param), isEnabled(settings, param));
+        }
+        enabledParams.put("Total Score", true);
+        config.enabledParams = enabledParams;
+        config.altitudeRange = rangeOf(settings, "Apogee");
+        config.durationRange = rangeOf(settings, "Duration");
+    }
+
+    /**
+     * Apply the parameter bounds of the settings. Call after initialize, which derives the
+     * physical limits from the design.
+     */
+    static void applyBounds(Optimizer optimizer, Properties settings) {
+        for (String param : PARAMETERS) {
+            if (!isEnabled(settings, param) || param.contains("Parachute")
+                    || "Apogee".equals(param) || "Duration".equals(param)) {
+                continue;
+            }
+            double[] range = rangeOf(settings, param);
+            optimizer.updateParameterBounds(param, range[0], range[1]);
+        }
+    }
+
+    /**
+     * Write {@code <name>-results.properties} (the best values and parachutes, plus
+     * {@code extra}) and, if asked and there is a result, {@code <name>-optimized.ork} to dir
+     * @return The results file
+     */
+    static File writeResults(Optimizer optimizer, File design, File dir, boolean save, Properties extra) throws Exception {
+        String baseName = baseName(design);
+        Properties results = new Properties();
+        results.putAll(extra);
+        results.setProperty("design", design.getPath());
+        results.setProperty("improved", Boolean.toString(optimizer.hasBestValues()));
+        for (Map.Entry<String, Double> entry : new TreeMap<>(optimizer.getBestValues()).entrySet()) {
+            results.setProperty(entry.getKey(), entry.getValue().toString());
+        }
+        results.setProperty("stage1Parachute", String.valueOf(optimizer.getBestStage1Parachute()));
+        results.setProperty("stage2Parachute", String.valueOf(optimizer.getBestStage2Parachute()));
+        File resultsFile = new File(dir, baseName + "-results.properties");
+        try (OutputStream out = new FileOutputStream(resultsFile)) {
+            results.store(out, "RocketOptimizer results");
+        }
+
+        if (save && optimizer.hasBestValues()) {
+            optimizer.saveOptimizedDesign(new File(dir, baseName + "-optimized.ork"));
+        }
+        return resultsFile;
+    }
+
+    /**
+     * The listener with the level the settings ask for (logLevel, default INFO: new best designs but
+     * not the individual candidates)
+     */
+    static Optimizer.LogListener logListener(Properties settings, Optimizer.LogListener sink) {
+        String level = settings.getProperty("logLevel", "INFO").trim().toUpperCase();
+        try {
+            return Optimizer.LogListener.atLevel(Optimizer.LogLevel.valueOf(level), sink);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("logLevel: unknown level " + level);
+        }
+    }
+
+    static String baseName(File design) {
+        return design.getName().replaceFirst("(?i)\\.ork$", "");
+    }
+
+    // Tuning options of OptimizationConfig the settings file may override. Any other key must be
+    // one of the GUI's settings, so a misspelled option fails instead of being ignored.
+    private static void applyOptions(Optimizer.OptimizationConfig config, Properties settings) {
+        for (String name : settings.stringPropertyNames()) {
+            String value = settings.getProperty(name).trim();
+            try {
+                switch (name) {
+                    case "strategy": config.strategy = Optimizer.OptimizationConfig.Strategy.valueOf(value.toUpperCase()); break;
+                    case "workerThreads": config.workerThreads = Integer.parseInt(value); break;
+                    case "concurrentSweep": config.concurrentSweep = parseBoolean(value); break;
+                    case "evaluationCacheSize": config.evaluationCacheSize = Integer.parseInt(value); break;
+                    case "persistentResults": config.persistentResults = parseBoolean(value); break;
+                    case "stabilityPrescreen": config.stabilityPrescreen = parseBoolean(value); break;
+                    case "parachuteDuplicateTolerance": config.parachuteDuplicateTolerance = Double.parseDouble(value); break;
+                    case "pruneDominatedParachutes": config.pruneDominatedParachutes = parseBoolean(value); break;
+                    case "orderedParachuteSearch": config.orderedParachuteSearch = parseBoolean(value); break;
+                    case "speculativeSimplex": config.speculativeSimplex = parseBoolean(value); break;
+                    case "populationGenerations": config.populationGenerations = Integer.parseInt(value); break;
+                    case "surrogateRounds": config.surrogateRounds = Integer.parseInt(value); break;
+                    case "surrogateBatchSize": config.surrogateBatchSize = Integer.parseInt(value); break;
+                    case "multiStarts": config.multiStarts = Integer.parseInt(value); break;
+                    case "earlyExit": config.earlyExit = parseBoolean(value); break;
+                    case "analyticDescent": config.analyticDescent = parseBoolean(value); break;
+                    case "descentTolerance": config.descentTolerance = Double.parseDouble(value); break;
+                    case "multiFidelity": config.multiFidelity = parseBoolean(value); break;
+                    case "coarseTimeStepFactor": config.coarseTimeStepFactor = Double.parseDouble(value); break;
+                    case "fidelityPromotionMargin": config.fidelityPromotionMargin = Double.parseDouble(value); break;
+                    case "remoteWorkers": config.remoteWorkers = Integer.parseInt(value); break;
+                    case "remoteTimeoutSeconds": config.remoteTimeoutSeconds = Integer.parseInt(value); break;
+                    case "metricsIntervalSeconds": config.metricsIntervalSeconds = Integer.parseInt(value); break;
+                    case "logEveryNthEvaluation": config.logEveryNthEvaluation = Integer.parseInt(value); break;
+                    default:
+                        if (!isGuiSetting(name)) {
+                            throw new IllegalArgumentException("unknown setting");
+                        }
+                }
+            } catch (IllegalArgumentException e) {
+                // Also covers NumberFormatException and unknown strategy names
+                throw new IllegalArgumentException(name + "=" + value + ": " + e.getMessage());
+            }
+        }
+    }
+
+    // Keys the GUI writes, and the log level read by logListener
+    private static boolean isGuiSetting(String name) {
+        switch (name) {
+            case "orkPath":
+            case "stabilityMin":
+            case "stabilityMax":
+            case "logLevel":
+                return true;
+            default:
+                break;
+        }
+        for (String param : PARAMETERS) {
+            String key = settingsKey(param);
+            if (name.equals(key + ".enabled") || name.equals(key + ".min") || name.equals(key + ".max")) return true;
+        }
+        return false;
+    }
+
+    // Unlike Boolean.parseBoolean, a typo is an error rather than false
+    private static boolean parseBoolean(String value) {
+        if ("true".equalsIgnoreCase(value)) return true;
+        if ("false".equalsIgnoreCase(value)) return false;
+        throw new IllegalArgumentException("expected true or false");
+    }
+
+    private static boolean isEnabled(Properties settings, String param) {
+        return Boolean.parseBoolean(settings.getProperty(settingsKey(param) + ".enabled", "true"));
+    }
+
+    private static double[] rangeOf(Properties settings, String param) {
+        return new double[]{
+            parseBound(settings.getProperty(settingsKey(param) + ".min"), Double.NEGATIVE_INFINITY),
+            parseBound(settings.getProperty(settingsKey(param) + ".max"), Double.POSITIVE_INFINITY)
+        };
+    }
+
+    // Empty or missing bounds are unlimited, as in the GUI
+    private static double parseBound(String value, double unlimited) {
+        return value == null || value.trim().isEmpty() ? unlimited : Double.parseDouble(value.trim());
+    }
+
+    private static String settingsKey(String param) {
+        return param.replaceAll("\\s+", "");
+    }
+
+    // Same mapping as the GUI: fin and nose parameters by internal name, the rest by display name
+    private static String optimizerKey(String param) {
+        switch (param) {
+            case "Fin Thickness (cm)": return "thickness";
+            case "Root Chord (cm)": return "rootChord";
+            case "Fin Height (cm)": return "height";
+            case "Number of Fins": return "finCount";
+            case "Nose Cone Length (cm)": return "noseLength";
+            case "Nose Cone Wall Thickness (cm)": return "noseWallThickness";
+            default: return param;
+        }
+    }
+}
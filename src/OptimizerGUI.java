@@ -1,6 +1,5 @@
 import com.google.inject.Guice;
 import com.google.inject.Injector;
-import net.sf.openrocket.preset.ComponentPreset;
 import net.sf.openrocket.startup.Application;
 import net.sf.openrocket.startup.GuiModule;
 import net.sf.openrocket.plugin.PluginModule;
@@ -11,6 +10,7 @@ import java.util.HashMap;
 import javax.swing.*;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
+import javax.swing.event.TableModelEvent;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.JTableHeader;
@@ -27,6 +27,8 @@ import java.util.Set;
 import javax.swing.table.DefaultTableCellRenderer;
 import java.util.ArrayList;
 import java.util.EventObject;
+import java.util.Objects;
+import java.util.Vector;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
 
@@ -46,8 +48,13 @@ public class OptimizerGUI extends JFrame {
     private JLabel durationScoreLabel;
     private Optimizer optimizer;
     private static final String CONFIG_FILE = System.getProperty("user.home") + "/.rocketoptimizer.properties";
+    private static final int LIVE_UPDATE_INTERVAL_MS = 66; // Live values and progress refresh at about 15 Hz
     private Map<String, Boolean> enabledParams = new HashMap<>();
     private JLabel apogeeLabel;
+    private JLabel pruningLabel;
+    // Rows whose current value changed since the table was last notified
+    private int firstChangedRow = Integer.MAX_VALUE;
+    private int lastChangedRow = -1;
     private JButton showInOpenRocketButton;
     private JComboBox<String> stage1ParachuteComboBox;
     private JComboBox<String> stage2ParachuteComboBox;
@@ -389,6 +396,10 @@ public class OptimizerGUI extends JFrame {
         progressBar.setStringPainted(true);
         southContainer.add(progressBar, BorderLayout.NORTH);
 
+        pruningLabel = new JLabel(" ");
+        pruningLabel.setBorder(BorderFactory.createEmptyBorder(2, 5, 0, 5));
+        southContainer.add(pruningLabel, BorderLayout.CENTER);
+
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 5, 5));
         startButton = new JButton("Start Optimization");
         saveInPlaceButton = new JButton("Save in Place");
@@ -712,6 +723,37 @@ public class OptimizerGUI extends JFrame {
         }
     }
 
+    /**
+     * Show the candidate the optimizer just evaluated in the current value column and score labels
+     */
+    private void showEvaluation(EvaluationEvent event) {
+        writeCurrentParameters(event.toMap());
+
+        // Manually update parachute rows if needed
+        for (int row = 0; row < tableModel.getRowCount(); row++) {
+            String paramName = (String) tableModel.getValueAt(row, 1);
+            String value = null;
+            if ("Stage 1 Parachute".equals(paramName)) {
+                value = event.stage1Parachute;
+            } else if ("Stage 2 Parachute".equals(paramName)) {
+                value = event.stage2Parachute;
+            }
+            if (value != null && !value.equals("None")) {
+                setCurrentValue(row, value);
+            }
+        }
+        fireCurrentValuesChanged();
+    }
+
+    private void showProgress(int currentStep, int totalSteps) {
+        // Calculate overall progress percentage
+        double progressPercent = (totalSteps > 0) ?
+                Math.min(100.0, (double) currentStep / totalSteps * 100) : 0.0;
+
+        progressBar.setString(String.format("Progress: %.1f%%", progressPercent));
+        progressBar.setValue((int) progressPercent);
+    }
+
     private void updateResultsTable(Map<String, Double> results) {
         for (int row = 0; row < tableModel.getRowCount(); row++) {
             String paramName = (String) tableModel.getValueAt(row, 1);
@@ -790,6 +832,12 @@ public class OptimizerGUI extends JFrame {
     }
 
     private void updateCurrentParameters(Map<String, Double> currentParams) {
+        writeCurrentParameters(currentParams);
+        fireCurrentValuesChanged();
+    }
+
+    // Like updateCurrentParameters, but leaves notifying the table to the caller
+    private void writeCurrentParameters(Map<String, Double> currentParams) {
         if (currentParams == null) return;
         
         // Check if we have string parameters for parachutes
@@ -818,24 +866,24 @@ public class OptimizerGUI extends JFrame {
             if ("Stage 1 Parachute".equals(paramName)) {
                 if (stringParams.containsKey("stage1Parachute")) {
                     String value = stringParams.get("stage1Parachute");
-                    tableModel.setValueAt(value, row, 2);
+                    setCurrentValue(row, value);
                 } else if (optimizer != null) {
                     // Get the current parachute value directly to ensure it's up to date
                     String currentParachute = optimizer.getBestStage1Parachute();
                     if (currentParachute != null && !currentParachute.equals("None") && !currentParachute.equals("null")) {
-                        tableModel.setValueAt(currentParachute, row, 2);
+                        setCurrentValue(row, currentParachute);
                     }
                 }
                 continue;
             } else if ("Stage 2 Parachute".equals(paramName)) {
                 if (stringParams.containsKey("stage2Parachute")) {
                     String value = stringParams.get("stage2Parachute");
-                    tableModel.setValueAt(value, row, 2);
+                    setCurrentValue(row, value);
                 } else if (optimizer != null) {
                     // Get the current parachute value directly to ensure it's up to date
                     String currentParachute = optimizer.getBestStage2Parachute();
                     if (currentParachute != null && !currentParachute.equals("None") && !currentParachute.equals("null")) {
-                        tableModel.setValueAt(currentParachute, row, 2);
+                        setCurrentValue(row, currentParachute);
                     }
                 }
                 continue;
@@ -845,7 +893,7 @@ public class OptimizerGUI extends JFrame {
             if (currentParams.containsKey(key)) {
                 Double value = currentParams.get(key);
                 String format = getFormatForParameter(paramName);
-                tableModel.setValueAt(value != null ? String.format(format, value) : "", row, 2);
+                setCurrentValue(row, value != null ? String.format(format, value) : "");
             }
         }
 
@@ -867,6 +915,26 @@ public class OptimizerGUI extends JFrame {
         }
     }
 
+    /**
+     * Write a current value (column 2) without notifying the table; changed rows are announced
+     * together by fireCurrentValuesChanged, so the table repaints once per update
+     */
+    @SuppressWarnings("unchecked")
+    private void setCurrentValue(int row, Object value) {
+        Vector<Object> rowData = (Vector<Object>) tableModel.getDataVector().get(row);
+        if (Objects.equals(rowData.get(2), value)) return;
+        rowData.set(2, value);
+        firstChangedRow = Math.min(firstChangedRow, row);
+        lastChangedRow = Math.max(lastChangedRow, row);
+    }
+
+    private void fireCurrentValuesChanged() {
+        if (lastChangedRow < 0) return;
+        tableModel.fireTableChanged(new TableModelEvent(tableModel, firstChangedRow, lastChangedRow, 2));
+        firstChangedRow = Integer.MAX_VALUE;
+        lastChangedRow = -1;
+    }
+
     private String getFormatForParameter(String paramName) {
         switch (paramName) {
             case "Altitude Score":
@@ -1244,6 +1312,7 @@ public class OptimizerGUI extends JFrame {
             saveInPlaceButton.setEnabled(false);
             saveAsButton.setEnabled(false);
             progressBar.setValue(0);
+            pruningLabel.setText(" ");
 
             optimizer = new Optimizer(); // Create the real optimizer instance
             optimizer.getConfig().orkPath = orkPath;
@@ -1346,6 +1415,15 @@ public class OptimizerGUI extends JFrame {
                 }
             }
 
+            // Evaluations and progress arrive far faster than the table can be repainted, so only
+            // the latest of each is shown, a few times a second
+            CoalescingUpdater<EvaluationEvent> evaluationUpdates =
+                    new CoalescingUpdater<>(LIVE_UPDATE_INTERVAL_MS, OptimizerGUI.this::showEvaluation);
+            CoalescingUpdater<int[]> progressUpdates =
+                    new CoalescingUpdater<>(LIVE_UPDATE_INTERVAL_MS, steps -> showProgress(steps[0], steps[1]));
+            evaluationUpdates.start();
+            progressUpdates.start();
+
             // --- Start SwingWorker ---
             SwingWorker<Void, String> worker = new SwingWorker<>() {
                 @Override
@@ -1354,13 +1432,14 @@ public class OptimizerGUI extends JFrame {
                         optimizer.setLogListener(message -> {
                             if (message.startsWith("=== Optimization Complete ===")) {
                                 publish("RESULTS");
-                            } else if (message.startsWith("INTERIM:")) {
-                                publish(message);
                             }
                         });
-                        optimizer.setStatusListener(status -> publish("STATUS:" + status));
+                        optimizer.setPruningListener((pruned, total) -> SwingUtilities.invokeLater(() ->
+                                pruningLabel.setText(String.format("Parachute combinations: %d of %d pruned, %d searched",
+                                        pruned, total, total - pruned))));
+                        optimizer.addEvaluationListener(evaluationUpdates::submit);
                         optimizer.setProgressListener((currentPhase, currentEval, totalEval, totalPhases) ->
-                                publish("PROGRESS:" + currentPhase + ":" + currentEval + ":" + totalEval + ":" + totalPhases));
+                                progressUpdates.submit(new int[]{currentEval, totalEval}));
 
                         // Set parachute selections if available
                         if (stage1ParachuteRow >= 0) {
@@ -1397,80 +1476,6 @@ public class OptimizerGUI extends JFrame {
                             String data = chunk.substring(14);
                             Map<String, Double> initialValues = deserializeMap(data);
                             updateCurrentParameters(initialValues);
-                        } else if (chunk.startsWith("INTERIM:")) {
-                            String data = chunk.substring(8);
-                            Map<String, Double> currentParams = new HashMap<>();
-                            Map<String, String> stringParams = new HashMap<>();
-                            
-                            for (String pair : data.split("\\|")) {
-                                String[] kv = pair.split("=");
-                                if (kv.length == 2) {
-                                    String key = kv[0];
-                                    String value = kv[1];
-                                    
-                                    // Handle parachute parameters as strings
-                                    if (key.equals("stage1Parachute") || key.equals("stage2Parachute")) {
-                                        stringParams.put(key, value);
-                                    } else {
-                                        // Regular numeric parameters
-                                        try {
-                                            currentParams.put(key, Double.parseDouble(value));
-                                        } catch (NumberFormatException ignored) {}
-                                    }
-                                }
-                            }
-                            
-                            // Update the table with both numeric and string parameters
-                            updateCurrentParameters(currentParams);
-                            
-                            // Manually update parachute rows if needed
-                            if (!stringParams.isEmpty()) {
-                                for (int row = 0; row < tableModel.getRowCount(); row++) {
-                                    String paramName = (String) tableModel.getValueAt(row, 1);
-                                    
-                                    if ("Stage 1 Parachute".equals(paramName) && stringParams.containsKey("stage1Parachute")) {
-                                        String value = stringParams.get("stage1Parachute");
-                                        if (value != null && !value.equals("None") && !value.equals("null")) {
-                                            tableModel.setValueAt(value, row, 2);
-                                        }
-                                    } else if ("Stage 2 Parachute".equals(paramName) && stringParams.containsKey("stage2Parachute")) {
-                                        String value = stringParams.get("stage2Parachute");
-                                        if (value != null && !value.equals("None") && !value.equals("null")) {
-                                            tableModel.setValueAt(value, row, 2);
-                                        }
-                                    }
-                                }
-                            }
-                        } else if (chunk.startsWith("STATUS:")) {
-                            String status = chunk.substring(7);
-                            Map<String, Double> currentParams = new HashMap<>();
-                            String[] parts = status.split(" ");
-
-                            // Extract individual param values
-                            for (String part : parts) {
-                                String[] keyVal = part.split("=");
-                                if (keyVal.length == 2) {
-                                    String paramName = keyVal[0];
-                                    try {
-                                        double value = Double.parseDouble(keyVal[1]);
-                                        currentParams.put(paramName, value);
-                                    } catch (NumberFormatException ignored) {}
-                                }
-                            }
-                            updateCurrentParameters(currentParams);
-                        } else if (chunk.startsWith("PROGRESS:")) {
-                            String[] parts = chunk.substring(9).split(":");
-                            int currentStep = Integer.parseInt(parts[1]);
-                            int totalSteps = Integer.parseInt(parts[2]);
-
-                            // Calculate overall progress percentage
-                            double progressPercent = (totalSteps > 0) ? 
-                                    Math.min(100.0, (double) currentStep / totalSteps * 100) : 0.0;
-                            
-                            String text = String.format("Progress: %.1f%%", progressPercent);
-                            
-                            progressBar.setString(text);
-                            progressBar.setValue((int) progressPercent);
                         } else if (chunk.startsWith("ERROR:")) {
                             JOptionPane.showMessageDialog(OptimizerGUI.this,
                                     "Optimization error: " + chunk.substring(6),
@@ -1482,6 +1487,8 @@ public class OptimizerGUI extends JFrame {
 
                 @Override
                 protected void done() {
+                    evaluationUpdates.stop();
+                    progressUpdates.stop();
                     startButton.setEnabled(true);
                     // Keep cancel button enabled to allow reverting to original values
                     boolean hasBest = optimizer != null && optimizer.hasBestValues();
@@ -1606,11 +1613,8 @@ public class OptimizerGUI extends JFrame {
             parachutePresets.add("None"); // Always include "None" option
             
             try {
-                // Load from OpenRocket database
-                List<ComponentPreset> presets = ParachuteHelper.getAllParachutePresets();
-                for (ComponentPreset preset : presets) {
-                    parachutePresets.add(ParachuteHelper.getPresetDisplayName(preset));
-                }
+                // Load from the preset registry (OpenRocket database, sorted by display name)
+                parachutePresets.addAll(ParachuteRegistry.get().getDisplayNames());
             } catch (Exception e) {
                 JOptionPane.showMessageDialog(this, 
                     "Error loading parachute presets: " + e.getMessage(),
@@ -1700,6 +1704,10 @@ public class OptimizerGUI extends JFrame {
                 Injector injector = Guice.createInjector(guiModule, new PluginModule());
                 Application.setInjector(injector);
                 guiModule.startLoader();
+                // Build the parachute preset registry while the window comes up
+                Thread registryLoader = new Thread(ParachuteRegistry::get, "parachute-registry");
+                registryLoader.setDaemon(true);
+                registryLoader.start();
 
                 OptimizerGUI gui = new OptimizerGUI();
                 gui.setVisible(true);
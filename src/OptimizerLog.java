@@ -0,0 +1,46 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The optimizer's side of its log listener. The listener's level is read once when it is set,
+ * so callers can ask {@link #isEnabled} before building a message, and per-evaluation lines are
+ * sampled: a listener that only wants run-level messages costs the evaluation loop nothing.
+ */
+public class OptimizerLog {
+    private volatile Optimizer.LogListener listener;
+    private volatile Optimizer.LogLevel level = Optimizer.LogLevel.INFO;
+    private volatile int evaluationInterval = 1;
+    private final AtomicLong evaluations = new AtomicLong();
+
+    public void setListener(Optimizer.LogListener listener) {
+        this.level = listener != null ? listener.getLevel() : Optimizer.LogLevel.INFO;
+        this.listener = listener;
+    }
+
+    /**
+     * Sample every {@code interval}th evaluation from now on; 0 samples none
+     */
+    public void setEvaluationInterval(int interval) {
+        this.evaluationInterval = Math.max(0, interval);
+        evaluations.set(0);
+    }
+
+    public boolean isEnabled(Optimizer.LogLevel messageLevel) {
+        return listener != null && messageLevel.compareTo(level) <= 0;
+    }
+
+    /**
+     * Count one evaluation and decide whether its {@link Optimizer.LogLevel#EVALUATION} lines are written
+     */
+    public boolean sampleEvaluation() {
+        if (!isEnabled(Optimizer.LogLevel.EVALUATION)) return false;
+        int interval = evaluationInterval;
+        return interval > 0 && evaluations.incrementAndGet() % interval == 0;
+    }
+
+    public void log(Optimizer.LogLevel messageLevel, String message) {
+        Optimizer.LogListener listener = this.listener;
+        if (listener != null && messageLevel.compareTo(level) <= 0) {
+            listener.log(message);
+        }
+    }
+}
@@ -1,4 +1,5 @@
 import net.sf.openrocket.database.ComponentPresetDao;
+import net.sf.openrocket.material.Material;
 import net.sf.openrocket.preset.ComponentPreset;
 import net.sf.openrocket.preset.ComponentPreset.Type;
 import net.sf.openrocket.rocketcomponent.Parachute;
@@ -49,6 +50,59 @@ public class ParachuteHelper {
         chute.loadPreset(preset);
     }
     
+    /**
+     * The properties a preset sets on a parachute, as they were when captured. Restoring them
+     * undoes any preset applied since, which re-applying the original preset cannot do when the
+     * parachute was defined in the design without one.
+     */
+    public static class Snapshot {
+        private final ComponentPreset preset;
+        private final double diameter;
+        private final double cd;
+        private final boolean cdAutomatic;
+        private final int lineCount;
+        private final double lineLength;
+        private final Material lineMaterial;
+        private final Material canopyMaterial;
+        private final double packedLength;
+        private final double packedRadius;
+        private final boolean massOverridden;
+        private final double overrideMass;
+
+        public Snapshot(Parachute chute) {
+            preset = chute.getPresetComponent();
+            diameter = chute.getDiameter();
+            cd = chute.getCD();
+            cdAutomatic = chute.isCDAutomatic();
+            lineCount = chute.getLineCount();
+            lineLength = chute.getLineLength();
+            lineMaterial = chute.getLineMaterial();
+            canopyMaterial = chute.getMaterial();
+            packedLength = chute.getLength();
+            packedRadius = chute.getRadius();
+            massOverridden = chute.isMassOverridden();
+            overrideMass = chute.getOverrideMass();
+        }
+
+        public void restore(Parachute chute) {
+            if (preset != null) {
+                chute.loadPreset(preset); // Also keeps the preset association
+                return;
+            }
+            chute.setDiameter(diameter);
+            chute.setCD(cd);
+            chute.setCDAutomatic(cdAutomatic);
+            chute.setLineCount(lineCount);
+            chute.setLineLength(lineLength);
+            chute.setLineMaterial(lineMaterial);
+            chute.setMaterial(canopyMaterial);
+            chute.setLength(packedLength);
+            chute.setRadius(packedRadius);
+            chute.setOverrideMass(overrideMass);
+            chute.setMassOverridden(massOverridden);
+        }
+    }
+
     /**
      * Find a preset by its display name
      * @param displayName The display name to search for
@@ -56,13 +110,6 @@ public class ParachuteHelper {
      */
     public static ComponentPreset findPresetByDisplayName(String displayName) {
         if (displayName == null || displayName.equals("None")) return null;
-        
-        List<ComponentPreset> presets = getAllParachutePresets();
-        for (ComponentPreset preset : presets) {
-            if (getPresetDisplayName(preset).equals(displayName)) {
-                return preset;
-            }
-        }
-        return null;
+        return ParachuteRegistry.get().getPreset(ParachuteRegistry.get().idOf(displayName));
     }
 } 
\ No newline at end of file
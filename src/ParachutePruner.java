@@ -0,0 +1,90 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Shrinks a list of parachute options before the combination sweep. Presets whose drag
+ * area and mass are within a relative tolerance of each other have the same effect on a
+ * flight, so only one of each group is kept. Optionally, presets that are dominated (at
+ * least as heavy as another preset with no more drag area) are dropped as well.
+ */
+public class ParachutePruner {
+    public static class Result {
+        public final int[] kept;       // Surviving registry ids, in their original order
+        public final int duplicates;   // Options collapsed into a near-identical preset
+        public final int dominated;    // Options dropped as dominated
+
+        Result(int[] kept, int duplicates, int dominated) {
+            this.kept = kept;
+            this.duplicates = duplicates;
+            this.dominated = dominated;
+        }
+    }
+
+    /**
+     * @param options Registry ids to prune; {@link ParachuteRegistry#NONE} and presets with
+     *                unknown drag area or mass are always kept
+     * @param tolerance Relative difference in drag area and mass below which presets are treated as identical
+     * @param dropDominated Whether to also drop dominated presets
+     */
+    public static Result prune(ParachuteRegistry registry, int[] options, double tolerance, boolean dropDominated) {
+        List<Integer> fixed = new ArrayList<>();     // Kept unconditionally
+        List<Integer> candidates = new ArrayList<>();
+        for (int id : options) {
+            if (id == ParachuteRegistry.NONE || Double.isNaN(registry.getDragArea(id)) || Double.isNaN(registry.getMass(id))) {
+                fixed.add(id);
+            } else {
+                candidates.add(id);
+            }
+        }
+
+        // Collapse near-duplicates: walk in drag area order and keep a preset only if no kept
+        // preset within the drag area window also matches its mass
+        candidates.sort(Comparator.comparingDouble(registry::getDragArea));
+        List<Integer> distinct = new ArrayList<>();
+        int windowStart = 0;
+        for (int id : candidates) {
+            double dragArea = registry.getDragArea(id);
+            while (windowStart < distinct.size()
+                    && !similar(registry.getDragArea(distinct.get(windowStart)), dragArea, tolerance)) {
+                windowStart++;
+            }
+            boolean duplicate = false;
+            for (int i = windowStart; i < distinct.size() && !duplicate; i++) {
+                duplicate = similar(registry.getMass(distinct.get(i)), registry.getMass(id), tolerance);
+            }
+            if (!duplicate) {
+                distinct.add(id);
+            }
+        }
+        int duplicates = candidates.size() - distinct.size();
+
+        List<Integer> survivors = distinct;
+        if (dropDominated) {
+            // Pareto front of (low mass, high drag area): lightest first, and a preset survives
+            // only if it adds drag area over every lighter one
+            distinct.sort(Comparator.comparingDouble(registry::getMass)
+                    .thenComparing(Comparator.comparingDouble(registry::getDragArea).reversed()));
+            survivors = new ArrayList<>();
+            double maxDragArea = Double.NEGATIVE_INFINITY;
+            for (int id : distinct) {
+                if (registry.getDragArea(id) > maxDragArea) {
+                    survivors.add(id);
+                    maxDragArea = registry.getDragArea(id);
+                }
+            }
+        }
+        int dominated = distinct.size() - survivors.size();
+
+        boolean[] keep = new boolean[registry.size() + 1]; // Offset by one so NONE maps to 0
+        for (int id : fixed) keep[id + 1] = true;
+        for (int id : survivors) keep[id + 1] = true;
+        int[] kept = Arrays.stream(options).filter(id -> keep[id + 1]).toArray();
+        return new Result(kept, duplicates, dominated);
+    }
+
+    private static boolean similar(double a, double b, double tolerance) {
+        return Math.abs(a - b) <= tolerance * Math.max(Math.abs(a), Math.abs(b));
+    }
+}
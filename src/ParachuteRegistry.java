@@ -0,0 +1,148 @@
+import net.sf.openrocket.preset.ComponentPreset;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of OpenRocket's parachute presets, loaded once. Each preset gets a
+ * stable integer id (its position when sorted by display name) so the optimizer can carry
+ * parachute choices as ints, and lookups by id or display name are O(1).
+ */
+public final class ParachuteRegistry {
+    /** Id of the "None" choice, which keeps the design's original parachute */
+    public static final int NONE = -1;
+    public static final String NONE_NAME = "None";
+    private static final double DEFAULT_CD = 0.8; // What OpenRocket assumes for a parachute preset without a Cd
+
+    private static volatile ParachuteRegistry instance;
+
+    private final List<ComponentPreset> presets;
+    private final List<String> displayNames;
+    private final long[] keys; // Cache/store key of each preset's display name
+    private final double[] dragAreas; // Cd * canopy area (m^2), NaN if unknown
+    private final double[] masses;    // kg, NaN if unknown
+    private final Map<String, Integer> idsByName;
+    private final long noneKey = EvaluationCache.hashName(NONE_NAME);
+
+    private ParachuteRegistry(List<ComponentPreset> source) {
+        List<ComponentPreset> sorted = new ArrayList<>(source);
+        Map<ComponentPreset, String> names = new HashMap<>();
+        for (ComponentPreset preset : sorted) {
+            names.put(preset, ParachuteHelper.getPresetDisplayName(preset));
+        }
+        sorted.sort(Comparator.comparing(names::get));
+
+        List<String> sortedNames = new ArrayList<>(sorted.size());
+        Map<String, Integer> ids = new HashMap<>();
+        keys = new long[sorted.size()];
+        dragAreas = new double[sorted.size()];
+        masses = new double[sorted.size()];
+        for (int id = 0; id < sorted.size(); id++) {
+            ComponentPreset preset = sorted.get(id);
+            String name = names.get(preset);
+            sortedNames.add(name);
+            ids.putIfAbsent(name, id);
+            keys[id] = EvaluationCache.hashName(name);
+            dragAreas[id] = dragArea(preset);
+            masses[id] = preset.has(ComponentPreset.MASS) ? preset.get(ComponentPreset.MASS) : Double.NaN;
+        }
+        this.presets = Collections.unmodifiableList(sorted);
+        this.displayNames = Collections.unmodifiableList(sortedNames);
+        this.idsByName = Collections.unmodifiableMap(ids);
+    }
+
+    /**
+     * The registry, built from the preset database on first use
+     */
+    public static ParachuteRegistry get() {
+        ParachuteRegistry registry = instance;
+        if (registry == null) {
+            synchronized (ParachuteRegistry.class) {
+                registry = instance;
+                if (registry == null) {
+                    registry = new ParachuteRegistry(ParachuteHelper.getAllParachutePresets());
+                    instance = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    public int size() {
+        return presets.size();
+    }
+
+    /**
+     * @return All presets, indexed by id
+     */
+    public List<ComponentPreset> getPresets() {
+        return presets;
+    }
+
+    /**
+     * @return All display names, indexed by id
+     */
+    public List<String> getDisplayNames() {
+        return displayNames;
+    }
+
+    /**
+     * @return The preset with the given id, or null for {@link #NONE}
+     */
+    public ComponentPreset getPreset(int id) {
+        return id == NONE ? null : presets.get(id);
+    }
+
+    public String getDisplayName(int id) {
+        return id == NONE ? NONE_NAME : displayNames.get(id);
+    }
+
+    /**
+     * @return The id for a display name, or {@link #NONE} for "None" and unknown names
+     */
+    public int idOf(String displayName) {
+        if (displayName == null) return NONE;
+        Integer id = idsByName.get(displayName);
+        return id != null ? id : NONE;
+    }
+
+    /**
+     * @return The id of a preset, or {@link #NONE} if it is null or not in the database
+     */
+    public int idOf(ComponentPreset preset) {
+        return preset == null ? NONE : idOf(ParachuteHelper.getPresetDisplayName(preset));
+    }
+
+    /**
+     * @return Drag area (Cd times canopy area, m^2) of a preset, or NaN if unknown
+     */
+    public double getDragArea(int id) {
+        return id == NONE ? Double.NaN : dragAreas[id];
+    }
+
+    /**
+     * @return Mass (kg) of a preset, or NaN if unknown
+     */
+    public double getMass(int id) {
+        return id == NONE ? Double.NaN : masses[id];
+    }
+
+    /**
+     * Key identifying a choice in evaluation cache and result store keys. Derived from the
+     * display name rather than the id, so stored results stay valid if the database changes.
+     */
+    public long getKey(int id) {
+        return id == NONE ? noneKey : keys[id];
+    }
+
+    private static double dragArea(ComponentPreset preset) {
+        if (!preset.has(ComponentPreset.DIAMETER)) return Double.NaN;
+        double diameter = preset.get(ComponentPreset.DIAMETER);
+        double cd = preset.has(ComponentPreset.CD) ? preset.get(ComponentPreset.CD) : DEFAULT_CD;
+        return cd * Math.PI * diameter * diameter / 4;
+    }
+}
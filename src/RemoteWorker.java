@@ -0,0 +1,141 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Evaluation worker process. Connects back to the {@link RemoteWorkerPool} that started it,
+ * loads its own copy of the design and evaluates candidates one at a time until the
+ * connection closes.
+ *
+ * Usage: {@code RemoteWorker host port}
+ *
+ * The protocol is binary over the socket (big-endian, as written by DataOutputStream):
+ * <ul>
+ * <li>Handshake from the pool: magic, version, design path and the configuration the
+ *     evaluation needs. Answer: process id and true with the parachute registry size, or false
+ *     with an error message.</li>
+ * <li>Request: {@link #EVALUATE}, the raw parameter values, both parachute ids, the abandon
+ *     threshold and the fidelity. Answer: the outcome fields, then the worker's running
+ *     simulation counters.</li>
+ * </ul>
+ */
+public class RemoteWorker {
+    static final int MAGIC = 0x524F5057; // "ROPW"
+    static final int VERSION = 1;
+    static final byte EVALUATE = 1;
+    private static final int MAX_MESSAGE = 1000; // Keeps writeUTF within its 64 KB limit
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: RemoteWorker host port");
+            System.exit(2);
+        }
+        OptimizerCLI.startOpenRocket();
+        try (Socket socket = new Socket(args[0], Integer.parseInt(args[1]))) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            serve(in, out);
+        } catch (EOFException e) {
+            // The pool closed the connection
+        } catch (IOException e) {
+            System.err.println("Worker connection failed: " + e.getMessage());
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    private static void serve(DataInputStream in, DataOutputStream out) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Protocol mismatch");
+        }
+        String rocketPath = in.readUTF();
+        Optimizer.OptimizationConfig config = new Optimizer.OptimizationConfig();
+        readConfig(in, config);
+
+        out.writeLong(ProcessHandle.current().pid());
+        RocketWorker worker;
+        try {
+            worker = new RocketWorker(new File(rocketPath), new Optimizer().getParameters(), config);
+            if (config.analyticDescent) {
+                // Validated against this worker's own full simulations
+                worker.setDescentModel(new DescentModel(worker.getBaseOptions(), config.descentTolerance));
+            }
+            out.writeBoolean(true);
+            out.writeInt(ParachuteRegistry.get().size());
+            out.flush();
+        } catch (Exception e) {
+            out.writeBoolean(false);
+            out.writeUTF(String.valueOf(e.getMessage()));
+            out.flush();
+            return;
+        }
+
+        Fidelity[] fidelities = Fidelity.values();
+        while (in.readByte() == EVALUATE) {
+            double[] rawValues = new double[in.readInt()];
+            for (int i = 0; i < rawValues.length; i++) {
+                rawValues[i] = in.readDouble();
+            }
+            int stage1Id = in.readInt();
+            int stage2Id = in.readInt();
+            double abandonAbove = in.readDouble();
+            Fidelity fidelity = fidelities[in.readByte()];
+
+            EvaluationOutcome outcome = worker.evaluate(rawValues, stage1Id, stage2Id, abandonAbove, fidelity);
+            out.writeByte(outcome.status.ordinal());
+            out.writeDouble(outcome.stability);
+            out.writeDouble(outcome.apogee);
+            out.writeDouble(outcome.duration);
+            out.writeDouble(outcome.errorBound);
+            String message = outcome.message != null ? outcome.message : "";
+            out.writeUTF(message.length() > MAX_MESSAGE ? message.substring(0, MAX_MESSAGE) : message);
+            out.writeLong(worker.getSimulations());
+            out.writeLong(worker.getAbandonedSimulations());
+            out.writeDouble(worker.getSkippedFlightTime());
+            out.flush();
+        }
+    }
+
+    // The configuration RocketWorker and its simulation listeners read
+    static void writeConfig(DataOutputStream out, Optimizer.OptimizationConfig config) throws IOException {
+        for (double[] range : new double[][]{config.stabilityRange, config.altitudeRange, config.durationRange}) {
+            out.writeDouble(range[0]);
+            out.writeDouble(range[1]);
+        }
+        out.writeBoolean(config.earlyExit);
+        out.writeBoolean(config.analyticDescent);
+        out.writeDouble(config.descentTolerance);
+        out.writeBoolean(config.multiFidelity);
+        out.writeDouble(config.coarseTimeStepFactor);
+        out.writeInt(config.enabledParams.size());
+        for (Map.Entry<String, Boolean> entry : config.enabledParams.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeBoolean(entry.getValue());
+        }
+    }
+
+    static void readConfig(DataInputStream in, Optimizer.OptimizationConfig config) throws IOException {
+        config.stabilityRange = new double[]{in.readDouble(), in.readDouble()};
+        config.altitudeRange = new double[]{in.readDouble(), in.readDouble()};
+        config.durationRange = new double[]{in.readDouble(), in.readDouble()};
+        config.earlyExit = in.readBoolean();
+        config.analyticDescent = in.readBoolean();
+        config.descentTolerance = in.readDouble();
+        config.multiFidelity = in.readBoolean();
+        config.coarseTimeStepFactor = in.readDouble();
+        int count = in.readInt();
+        Map<String, Boolean> enabledParams = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            enabledParams.put(in.readUTF(), in.readBoolean());
+        }
+        config.enabledParams = enabledParams;
+    }
+}
@@ -0,0 +1,276 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Evaluates candidates in {@link RemoteWorker} processes on this machine, each holding one
+ * copy of the design, so the number of copies is not limited by this process's heap. Like the
+ * in-process workers, a connection is checked out for one evaluation at a time. A worker that
+ * drops its connection or stays silent past the timeout is killed and the candidate is
+ * re-queued once on the next free worker. A candidate that loses a second worker fails with
+ * an error instead, so one that reliably crashes or hangs workers cannot take down the pool.
+ */
+public class RemoteWorkerPool {
+    private static final long STARTUP_TIMEOUT_MILLIS = 120_000; // Workers load OpenRocket and the design first
+    private static final long POLL_MILLIS = 1000;
+    private static final int MAX_ATTEMPTS = 2; // Workers a candidate may lose before it fails
+
+    private final List<Process> processes;
+    private final List<Connection> connections;
+    private final BlockingQueue<Connection> idle;
+    private final AtomicInteger live;
+    private final AtomicLong evaluations = new AtomicLong();
+    private final AtomicLong requeued = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private RemoteWorkerPool(List<Process> processes, List<Connection> connections) {
+        this.processes = processes;
+        this.connections = connections;
+        this.idle = new LinkedBlockingQueue<>(connections);
+        this.live = new AtomicInteger(connections.size());
+    }
+
+    /**
+     * Launch worker processes with this process's JVM and class path, and wait until each has
+     * loaded the design. Workers that fail to start are dropped.
+     * @throws IOException If no worker started
+     */
+    public static RemoteWorkerPool start(File rocketFile, Optimizer.OptimizationConfig config, int count) throws IOException {
+        return start(rocketFile, config, count, RemoteWorker.class.getName(), ParachuteRegistry.get().size());
+    }
+
+    // The worker's main class is a parameter so tests can run stand-in workers without OpenRocket
+    static RemoteWorkerPool start(File rocketFile, Optimizer.OptimizationConfig config, int count,
+                                  String workerClass, int expectedPresets) throws IOException {
+        String java = new File(new File(System.getProperty("java.home"), "bin"), "java").getPath();
+        List<Process> processes = new ArrayList<>();
+        List<Connection> connections = new ArrayList<>();
+        try (ServerSocket server = new ServerSocket(0, count, InetAddress.getLoopbackAddress())) {
+            for (int i = 0; i < count; i++) {
+                processes.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                        workerClass, "127.0.0.1", Integer.toString(server.getLocalPort()))
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                        .redirectError(ProcessBuilder.Redirect.INHERIT)
+                        .start());
+            }
+            long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MILLIS;
+            String lastError = "timed out";
+            Set<Long> connectedPids = new HashSet<>();
+            int accepted = 0;
+            while (accepted < count) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) break;
+                server.setSoTimeout((int) Math.min(remaining, POLL_MILLIS));
+                Socket socket;
+                try {
+                    socket = server.accept();
+                } catch (SocketTimeoutException e) {
+                    // Stop waiting once every process that has not connected has exited
+                    if (processes.stream().noneMatch(p -> p.isAlive() && !connectedPids.contains(p.pid()))) {
+                        lastError = "worker processes exited during startup";
+                        break;
+                    }
+                    continue;
+                }
+                accepted++;
+                Connection connection = new Connection(socket, config.remoteTimeoutSeconds * 1000);
+                try {
+                    connection.handshake(rocketFile, config, expectedPresets, (int) remaining);
+                    connections.add(connection);
+                } catch (IOException e) {
+                    lastError = e.getMessage();
+                    connection.close();
+                    destroy(processes, connection.pid);
+                }
+                connectedPids.add(connection.pid);
+            }
+            if (connections.isEmpty()) {
+                throw new IOException("No worker process started: " + lastError);
+            }
+        } catch (IOException e) {
+            for (Connection connection : connections) connection.close();
+            for (Process process : processes) process.destroyForcibly();
+            throw e;
+        }
+        return new RemoteWorkerPool(processes, connections);
+    }
+
+    /**
+     * Number of workers that started; lost workers are not replaced
+     */
+    public int getWorkerCount() {
+        return connections.size();
+    }
+
+    public int getLiveWorkerCount() {
+        return live.get();
+    }
+
+    /**
+     * Evaluate one candidate on whichever worker is free, blocking until one is
+     */
+    public EvaluationOutcome evaluate(double[] rawValues, int stage1Id, int stage2Id, double abandonAbove,
+                                      Fidelity fidelity) throws InterruptedException {
+        int attempts = 0;
+        while (true) {
+            Connection connection = idle.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (connection == null) {
+                if (live.get() == 0) {
+                    return EvaluationOutcome.failed(EvaluationOutcome.Status.ERROR, Double.NaN, "All worker processes were lost");
+                }
+                continue;
+            }
+            try {
+                EvaluationOutcome outcome = connection.evaluate(rawValues, stage1Id, stage2Id, abandonAbove, fidelity);
+                evaluations.incrementAndGet();
+                idle.add(connection);
+                return outcome;
+            } catch (IOException e) {
+                // The worker died or hung; its rocket copy may be in any state, so it is not reused
+                connection.close();
+                destroy(processes, connection.pid);
+                live.decrementAndGet();
+                if (++attempts >= MAX_ATTEMPTS) {
+                    failed.incrementAndGet();
+                    return EvaluationOutcome.failed(EvaluationOutcome.Status.ERROR, Double.NaN,
+                            "Lost " + attempts + " worker processes evaluating this candidate");
+                }
+                requeued.incrementAndGet();
+            }
+        }
+    }
+
+    public long getSimulations() {
+        long total = 0;
+        for (Connection connection : connections) total += connection.simulations;
+        return total;
+    }
+
+    public long getAbandonedSimulations() {
+        long total = 0;
+        for (Connection connection : connections) total += connection.abandonedSimulations;
+        return total;
+    }
+
+    public double getSkippedFlightTime() {
+        double total = 0;
+        for (Connection connection : connections) total += connection.skippedFlightTime;
+        return total;
+    }
+
+    public void shutdown() {
+        for (Connection connection : connections) {
+            connection.close(); // Workers exit when their connection closes
+        }
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(2, TimeUnit.SECONDS)) process.destroyForcibly();
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d of %d workers alive, %d evaluations, %d candidates re-queued after a worker was lost, %d failed",
+                live.get(), connections.size(), evaluations.get(), requeued.get(), failed.get());
+    }
+
+    private static void destroy(List<Process> processes, long pid) {
+        for (Process process : processes) {
+            if (process.pid() == pid) process.destroyForcibly();
+        }
+    }
+
+    // Coordinator end of one worker's socket; used by one evaluation at a time
+    private static final class Connection {
+        private final Socket socket;
+        private final int timeoutMillis;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+        long pid = -1;
+        // Running totals last reported by the worker
+        volatile long simulations;
+        volatile long abandonedSimulations;
+        volatile double skippedFlightTime;
+
+        Connection(Socket socket, int timeoutMillis) throws IOException {
+            this.socket = socket;
+            this.timeoutMillis = timeoutMillis;
+            socket.setTcpNoDelay(true);
+            in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        void handshake(File rocketFile, Optimizer.OptimizationConfig config, int expectedPresets, int timeoutMillis) throws IOException {
+            socket.setSoTimeout(timeoutMillis);
+            out.writeInt(RemoteWorker.MAGIC);
+            out.writeInt(RemoteWorker.VERSION);
+            out.writeUTF(rocketFile.getAbsolutePath());
+            RemoteWorker.writeConfig(out, config);
+            out.flush();
+            pid = in.readLong();
+            if (!in.readBoolean()) {
+                throw new IOException("Worker could not load the design: " + in.readUTF());
+            }
+            int presets = in.readInt();
+            if (presets != expectedPresets) {
+                // Parachute ids are positions in the preset database, so both sides need the same one
+                throw new IOException("Worker has " + presets + " parachute presets, expected " + expectedPresets);
+            }
+            socket.setSoTimeout(this.timeoutMillis);
+        }
+
+        EvaluationOutcome evaluate(double[] rawValues, int stage1Id, int stage2Id, double abandonAbove,
+                                   Fidelity fidelity) throws IOException {
+            out.writeByte(RemoteWorker.EVALUATE);
+            out.writeInt(rawValues.length);
+            for (double value : rawValues) {
+                out.writeDouble(value);
+            }
+            out.writeInt(stage1Id);
+            out.writeInt(stage2Id);
+            out.writeDouble(abandonAbove);
+            out.writeByte(fidelity.ordinal());
+            out.flush();
+
+            EvaluationOutcome.Status status = EvaluationOutcome.Status.values()[in.readByte()];
+            double stability = in.readDouble();
+            double apogee = in.readDouble();
+            double duration = in.readDouble();
+            double errorBound = in.readDouble();
+            String message = in.readUTF();
+            simulations = in.readLong();
+            abandonedSimulations = in.readLong();
+            skippedFlightTime = in.readDouble();
+            if (status == EvaluationOutcome.Status.ABANDONED) {
+                return EvaluationOutcome.abandoned(stability, errorBound);
+            }
+            return new EvaluationOutcome(status, stability, apogee, duration, message.isEmpty() ? null : message);
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException ignored) {}
+        }
+    }
+}
@@ -0,0 +1,226 @@
+import net.sf.openrocket.simulation.SimulationOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Evaluation outcomes persisted across optimizer sessions, so reopening the same design
+ * only simulates points that were never simulated before.
+ *
+ * There is one store file per ORK content hash and simulation options fingerprint, under
+ * {@code ~/.rocketoptimizer/results}. Each file is an append-only, memory-mapped log of
+ * fixed-size records keyed by the same 64-bit key as {@link EvaluationCache}. The record
+ * count in the header is written after the record itself, so a session that dies mid-write
+ * leaves a store that is still readable.
+ */
+public class ResultStore implements AutoCloseable {
+    private static final int MAGIC = 0x524F5054; // "ROPT"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;   // magic, version, record count, reserved
+    private static final int RECORD_SIZE = 40;   // key, status, fidelity, stability, apogee, duration
+    private static final int INITIAL_CAPACITY = 4096;
+
+    private final File file;
+    private final RandomAccessFile raf;
+    private final FileChannel channel;
+    private final FileLock lock;
+    private final Map<Long, Integer> index = new HashMap<>(); // Key -> record number
+    private MappedByteBuffer buffer;
+    private int recordCount;
+    private int capacity;
+    private int appended = 0;
+
+    private ResultStore(File file) throws IOException {
+        this.file = file;
+        this.raf = new RandomAccessFile(file, "rw");
+        this.channel = raf.getChannel();
+        // Only one session appends to a store at a time; a second one simply runs without it
+        FileLock acquired;
+        try {
+            acquired = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            acquired = null; // Held by another optimizer in this JVM
+        }
+        this.lock = acquired;
+        if (lock == null) {
+            raf.close();
+            throw new IOException("Result store is in use by another session: " + file);
+        }
+
+        long length = channel.size();
+        if (length < HEADER_SIZE) {
+            capacity = INITIAL_CAPACITY;
+            map();
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, 0);
+        } else {
+            capacity = (int) ((length - HEADER_SIZE) / RECORD_SIZE);
+            map();
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                close();
+                throw new IOException("Unrecognized result store format: " + file);
+            }
+        }
+
+        recordCount = Math.min(buffer.getInt(8), capacity);
+        for (int i = 0; i < recordCount; i++) {
+            index.put(buffer.getLong(offset(i)), i);
+        }
+    }
+
+    /**
+     * Open (or create) the store for the given design file and simulation options.
+     */
+    public static ResultStore open(File orkFile, SimulationOptions options) throws IOException {
+        File dir = new File(System.getProperty("user.home"), ".rocketoptimizer" + File.separator + "results");
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Cannot create result store directory: " + dir);
+        }
+        String name = hex(sha256(Files.readAllBytes(orkFile.toPath())), 16) + "-" + hex(optionsFingerprint(options), 8);
+        return new ResultStore(new File(dir, name + ".results"));
+    }
+
+    /**
+     * @param stabilityRange The current run's stability limits, since stored outcomes may come from runs with other limits
+     * @return The stored outcome re-checked against the stability range, or null if the point was never stored
+     *         (or was only rejected by limits that no longer apply)
+     */
+    public synchronized EvaluationOutcome get(long key, double[] stabilityRange) {
+        Integer record = index.get(key);
+        if (record == null) return null;
+        int offset = offset(record);
+        EvaluationOutcome.Status status = EvaluationOutcome.Status.values()[buffer.getInt(offset + 8)];
+        double stability = buffer.getDouble(offset + 16);
+        boolean inRange = stability >= stabilityRange[0] && stability <= stabilityRange[1];
+
+        switch (status) {
+            case OK:
+                if (!inRange) {
+                    return EvaluationOutcome.failed(EvaluationOutcome.Status.STABILITY_OUT_OF_RANGE, stability, "Stability out of range");
+                }
+                return EvaluationOutcome.simulated(stability, buffer.getDouble(offset + 24), buffer.getDouble(offset + 32));
+            case STABILITY_OUT_OF_RANGE:
+                return inRange ? null : EvaluationOutcome.failed(status, stability, "Stability out of range");
+            case INVALID_STABILITY:
+                return EvaluationOutcome.failed(status, stability, "Invalid CP/Stability");
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Append an outcome to the log. Outcomes that are not deterministic (see
+     * {@link EvaluationCache#isCacheable}), abandoned simulations (their bound is relative to
+     * one run's best) and keys already stored are ignored.
+     * @param fidelity Simulation fidelity that produced the outcome, recorded with it
+     */
+    public synchronized void put(long key, EvaluationOutcome outcome, Fidelity fidelity) throws IOException {
+        if (!EvaluationCache.isCacheable(outcome) || outcome.status == EvaluationOutcome.Status.ABANDONED) return;
+        Integer existing = index.get(key);
+        if (existing != null) {
+            // A simulated result supersedes a stability rejection made under other limits
+            if (outcome.status != EvaluationOutcome.Status.OK
+                    || buffer.getInt(offset(existing) + 8) != EvaluationOutcome.Status.STABILITY_OUT_OF_RANGE.ordinal()) {
+                return;
+            }
+        }
+        if (recordCount == capacity) {
+            capacity = Math.max(INITIAL_CAPACITY, capacity * 2);
+            map();
+        }
+
+        int offset = offset(recordCount);
+        buffer.putLong(offset, key);
+        buffer.putInt(offset + 8, outcome.status.ordinal());
+        buffer.putInt(offset + 12, fidelity.ordinal()); // Records from before multi-fidelity read as FULL
+        buffer.putDouble(offset + 16, outcome.stability);
+        buffer.putDouble(offset + 24, outcome.apogee);
+        buffer.putDouble(offset + 32, outcome.duration);
+        index.put(key, recordCount);
+        recordCount++;
+        buffer.putInt(8, recordCount); // Publish the record only once it is complete
+        appended++;
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d stored points (%d added this run) in %s", index.size(), appended, file.getName());
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (buffer != null) {
+            buffer.force();
+        }
+        if (lock != null && lock.isValid()) {
+            lock.release();
+        }
+        channel.close();
+        raf.close();
+    }
+
+    private void map() throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+    }
+
+    private static int offset(int record) {
+        return HEADER_SIZE + record * RECORD_SIZE;
+    }
+
+    // Everything in the options that changes a simulated flight
+    private static byte[] optionsFingerprint(SimulationOptions options) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(options.getLaunchRodLength()).append(';')
+          .append(options.getLaunchRodAngle()).append(';')
+          .append(options.getLaunchRodDirection()).append(';')
+          .append(options.getWindSpeedAverage()).append(';')
+          .append(options.getWindTurbulenceIntensity()).append(';')
+          .append(options.getWindDirection()).append(';')
+          .append(options.getLaunchAltitude()).append(';')
+          .append(options.getLaunchLatitude()).append(';')
+          .append(options.getLaunchLongitude()).append(';')
+          .append(options.isISAAtmosphere()).append(';')
+          .append(options.getLaunchTemperature()).append(';')
+          .append(options.getLaunchPressure()).append(';')
+          .append(options.getTimeStep()).append(';')
+          .append(options.getMaximumStepAngle()).append(';')
+          .append(options.getRandomSeed());
+        return sha256(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String hex(byte[] bytes, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count && i < bytes.length; i++) {
+            sb.append(String.format("%02x", bytes[i]));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,237 @@
+import net.sf.openrocket.document.OpenRocketDocument;
+import net.sf.openrocket.file.GeneralRocketLoader;
+import net.sf.openrocket.preset.ComponentPreset;
+import net.sf.openrocket.rocketcomponent.*;
+import net.sf.openrocket.simulation.SimulationOptions;
+import net.sf.openrocket.simulation.exception.SimulationException;
+import net.sf.openrocket.simulation.listeners.SimulationListener;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A private, deep copy of the loaded rocket design used by a single evaluation thread at a time.
+ * Each worker loads its own document so candidates can be applied and simulated without
+ * touching the rocket that the optimizer (and the GUI) hold on to.
+ */
+public class RocketWorker {
+    private final OpenRocketDocument document;
+    private final Rocket rocket;
+    private final EllipticalFinSet fins;
+    private final NoseCone noseCone;
+    private final Parachute stage1Parachute;
+    private final Parachute stage2Parachute;
+    // The parachutes as loaded, restored for "None" and for disabled stages
+    private final ParachuteHelper.Snapshot originalStage1;
+    private final ParachuteHelper.Snapshot originalStage2;
+    private final SimulationOptions baseOptions;
+    private final SimulationOptions coarseOptions; // Null unless multi-fidelity evaluation is enabled
+    private final List<Optimizer.FinParameter> parameters;
+    private final Optimizer.OptimizationConfig config;
+    private final StabilityCalculator stabilityCalculator;
+    private final double[] appliedValues; // Raw values currently set on this copy (NaN = unknown)
+    private final int recoveryDevices;
+    private long simulations = 0;
+    private long abandonedSimulations = 0;
+    private double skippedFlightTime = 0; // Estimated seconds of flight not simulated thanks to early exits
+    private volatile DescentModel descentModel; // Null unless descents are predicted analytically
+    private volatile EvaluationMetrics metrics = new EvaluationMetrics(); // Replaced by the optimizer's shared one
+
+    public RocketWorker(File rocketFile, List<Optimizer.FinParameter> parameters, Optimizer.OptimizationConfig config) throws Exception {
+        this.document = new GeneralRocketLoader(rocketFile).load();
+        this.rocket = document.getRocket();
+        this.parameters = parameters;
+        this.config = config;
+
+        fins = Optimizer.findLastEllipticalFinSet(rocket);
+        if (fins == null) {
+            throw new RuntimeException("No elliptical fin set found");
+        }
+        noseCone = Optimizer.findNoseCone(rocket);
+        if (noseCone == null) {
+            throw new RuntimeException("No nose cone found");
+        }
+        baseOptions = document.getSimulations().get(0).getOptions();
+        if (config.multiFidelity) {
+            coarseOptions = baseOptions.clone();
+            coarseOptions.setTimeStep(baseOptions.getTimeStep() * config.coarseTimeStepFactor);
+            coarseOptions.setMaximumStepAngle(baseOptions.getMaximumStepAngle() * config.coarseTimeStepFactor);
+        } else {
+            coarseOptions = null;
+        }
+
+        stage1Parachute = Optimizer.findFirstParachute(rocket);
+        stage2Parachute = Optimizer.findSecondParachute(rocket);
+        originalStage1 = stage1Parachute != null ? new ParachuteHelper.Snapshot(stage1Parachute) : null;
+        originalStage2 = stage2Parachute != null ? new ParachuteHelper.Snapshot(stage2Parachute) : null;
+
+        stabilityCalculator = new StabilityCalculator(rocket);
+        appliedValues = new double[parameters.size()];
+        Arrays.fill(appliedValues, Double.NaN);
+        recoveryDevices = countRecoveryDevices(rocket);
+    }
+
+    public void setDescentModel(DescentModel descentModel) {
+        this.descentModel = descentModel;
+    }
+
+    public void setMetrics(EvaluationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public SimulationOptions getBaseOptions() {
+        return baseOptions;
+    }
+
+    public StabilityCalculator getStabilityCalculator() {
+        return stabilityCalculator;
+    }
+
+    /**
+     * Calibrate a stability estimator against this copy while it still holds the loaded design
+     * @param baselineValues Raw values of the loaded design, in parameter order
+     */
+    public StabilityEstimator createStabilityEstimator(double[] baselineValues) {
+        double stability = stabilityCalculator.calculate();
+        if (Double.isNaN(stability)) {
+            throw new RuntimeException("Baseline stability is invalid");
+        }
+        return new StabilityEstimator(rocket, parameters, baselineValues, stability, stabilityCalculator.getCaliber(), config);
+    }
+
+    /**
+     * Apply a candidate to this worker's rocket, check its stability and simulate it.
+     * @param rawValues Raw (cm / count) values for every optimizer parameter, in parameter order
+     * @param stage1Id Registry id of the stage 1 parachute to use
+     * @param stage2Id Registry id of the stage 2 parachute to use
+     * @param abandonAbove Error the candidate must beat; the simulation is abandoned once it provably
+     *                     cannot (infinite to always simulate to the end)
+     * @param fidelity Whether to simulate with the design's options or the coarse ones
+     * @return The outcome of the evaluation; never null
+     */
+    public EvaluationOutcome evaluate(double[] rawValues, int stage1Id, int stage2Id, double abandonAbove, Fidelity fidelity) {
+        EvaluationMetrics metrics = this.metrics;
+        long phaseStart = System.nanoTime();
+        for (int i = 0; i < parameters.size(); i++) {
+            Optimizer.FinParameter param = parameters.get(i);
+            double rawValue = rawValues[i];
+            if (rawValue != appliedValues[i] && StabilityCalculator.affectsAerodynamics(param.name)) {
+                stabilityCalculator.invalidateAerodynamics();
+            }
+            appliedValues[i] = rawValue;
+            double convertedValue = param.converter.apply(rawValue);
+            try {
+                switch (param.name) {
+                    case "thickness": fins.setThickness(convertedValue); break;
+                    case "rootChord": fins.setLength(convertedValue); break;
+                    case "height": fins.setHeight(convertedValue); break;
+                    case "finCount": fins.setFinCount((int) Math.round(rawValue)); break;
+                    case "noseLength": noseCone.setLength(convertedValue); break;
+                    case "noseWallThickness": noseCone.setThickness(convertedValue); break;
+                }
+            } catch (Exception e) {
+                appliedValues[i] = Double.NaN; // The component may be left partially updated
+                return EvaluationOutcome.failed(EvaluationOutcome.Status.PARAMETER_ERROR, Double.NaN,
+                        "Error setting parameter " + param.name + " to " + rawValue + ": " + e.getMessage());
+            }
+        }
+
+        applyParachute(stage1Parachute, "Stage 1 Parachute", stage1Id, originalStage1);
+        applyParachute(stage2Parachute, "Stage 2 Parachute", stage2Id, originalStage2);
+        phaseStart = metrics.recordSince(EvaluationMetrics.Phase.APPLY_PARAMETERS, phaseStart);
+
+        try {
+            rocket.enableEvents();
+            rocket.fireComponentChangeEvent(ComponentChangeEvent.AERODYNAMIC_CHANGE | ComponentChangeEvent.MASS_CHANGE | ComponentChangeEvent.MOTOR_CHANGE);
+            phaseStart = metrics.recordSince(EvaluationMetrics.Phase.COMPONENT_EVENTS, phaseStart);
+
+            double stability;
+            try {
+                stability = stabilityCalculator.calculate();
+                phaseStart = metrics.recordSince(EvaluationMetrics.Phase.STABILITY, phaseStart);
+            } catch (Exception e) {
+                return EvaluationOutcome.failed(EvaluationOutcome.Status.INVALID_STABILITY, Double.NaN,
+                        "Error during stability calculation: " + e.getMessage());
+            }
+            if (Double.isNaN(stability)) {
+                return EvaluationOutcome.failed(EvaluationOutcome.Status.INVALID_STABILITY, stability, "Invalid CP/Stability");
+            }
+            if (stability < config.stabilityRange[0] || stability > config.stabilityRange[1]) {
+                return EvaluationOutcome.failed(EvaluationOutcome.Status.STABILITY_OUT_OF_RANGE, stability, "Stability out of range");
+            }
+
+            SimulationStepper.SimulationResult result;
+            List<SimulationListener> listeners = new ArrayList<>(2);
+            EarlyExitListener earlyExit = config.earlyExit && abandonAbove < Double.MAX_VALUE
+                    ? new EarlyExitListener(config, abandonAbove, recoveryDevices) : null;
+            if (earlyExit != null) listeners.add(earlyExit);
+            DescentModel descent = descentModel;
+            DescentCutoffListener cutoff = descent != null && !descent.isRejected()
+                    ? new DescentCutoffListener(descent, recoveryDevices, descent.usePrediction()) : null;
+            if (cutoff != null) listeners.add(cutoff);
+            try {
+                SimulationOptions options = fidelity == Fidelity.COARSE && coarseOptions != null ? coarseOptions : baseOptions;
+                result = new SimulationStepper(rocket, options).runSimulation(listeners.toArray(new SimulationListener[0]));
+                metrics.recordSince(EvaluationMetrics.Phase.SIMULATION, phaseStart);
+            } catch (SimulationStepper.SimulationTimeoutException e) {
+                metrics.count(EvaluationMetrics.Outcome.TIMED_OUT);
+                return EvaluationOutcome.failed(EvaluationOutcome.Status.SIMULATION_FAILED, stability, "Sim Error: " + e.getMessage());
+            } catch (SimulationException e) {
+                return EvaluationOutcome.failed(EvaluationOutcome.Status.SIMULATION_FAILED, stability, "Sim Error: " + e.getMessage());
+            }
+            simulations++;
+            if (earlyExit != null && earlyExit.isAbandoned()) {
+                abandonedSimulations++;
+                skippedFlightTime += earlyExit.getSkippedTime();
+                return EvaluationOutcome.abandoned(stability, earlyExit.getErrorBound());
+            }
+            if (cutoff != null && cutoff.hasPrediction()) {
+                if (cutoff.isStopping()) {
+                    descent.predicted(cutoff.getPredictedFlightTime() - cutoff.getCutoffTime());
+                    return EvaluationOutcome.simulated(stability, result.altitude, cutoff.getPredictedFlightTime());
+                }
+                descent.validate(cutoff.getPredictedFlightTime(), result.duration);
+            }
+            return EvaluationOutcome.simulated(stability, result.altitude, result.duration);
+        } catch (Exception e) {
+            e.printStackTrace(); // Log stack trace for debugging
+            return EvaluationOutcome.failed(EvaluationOutcome.Status.ERROR, Double.NaN, "Eval Error: " + e.getMessage());
+        }
+    }
+
+    public long getSimulations() {
+        return simulations;
+    }
+
+    public long getAbandonedSimulations() {
+        return abandonedSimulations;
+    }
+
+    public double getSkippedFlightTime() {
+        return skippedFlightTime;
+    }
+
+    private static int countRecoveryDevices(RocketComponent component) {
+        int count = component instanceof RecoveryDevice ? 1 : 0;
+        for (RocketComponent child : component.getChildren()) {
+            count += countRecoveryDevices(child);
+        }
+        return count;
+    }
+
+    // Mirrors Optimizer.applyCurrentParachuteSettings for this worker's copy
+    // The copy is reused across candidates, so 'None' and disabled stages must undo whatever preset
+    // the previous candidate applied, including on a parachute the design defines without one
+    private void applyParachute(Parachute chute, String enabledKey, int presetId, ParachuteHelper.Snapshot original) {
+        if (chute == null) return;
+        ComponentPreset preset = config.enabledParams.getOrDefault(enabledKey, true)
+                ? ParachuteRegistry.get().getPreset(presetId) : null;
+        if (preset != null) {
+            ParachuteHelper.applyPreset(chute, preset);
+        } else {
+            original.restore(chute);
+        }
+    }
+}
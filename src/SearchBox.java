@@ -0,0 +1,43 @@
+/**
+ * Conversions between a search box [lower, upper] and the unit cube, shared by the strategies
+ * that search in normalized coordinates. A dimension whose bounds coincide maps to the middle.
+ */
+final class SearchBox {
+    private SearchBox() {
+    }
+
+    static double normalize(double value, double lower, double upper) {
+        return upper > lower ? (value - lower) / (upper - lower) : 0.5;
+    }
+
+    static double[] normalize(double[] point, double[] lower, double[] upper) {
+        double[] u = new double[point.length];
+        for (int i = 0; i < point.length; i++) {
+            u[i] = normalize(point[i], lower[i], upper[i]);
+        }
+        return u;
+    }
+
+    static double[] denormalize(double[] u, double[] lower, double[] upper) {
+        double[] point = new double[u.length];
+        for (int i = 0; i < u.length; i++) {
+            point[i] = lower[i] + u[i] * (upper[i] - lower[i]);
+        }
+        return point;
+    }
+
+    static double clamp01(double value) {
+        return Math.max(0.0, Math.min(1.0, value));
+    }
+
+    /**
+     * Clamp a point into the box in place
+     * @return The same point
+     */
+    static double[] clamp(double[] point, double[] lower, double[] upper) {
+        for (int i = 0; i < point.length; i++) {
+            point[i] = Math.max(lower[i], Math.min(upper[i], point[i]));
+        }
+        return point;
+    }
+}
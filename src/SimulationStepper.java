@@ -2,8 +2,12 @@ import net.sf.openrocket.document.Simulation;
 import net.sf.openrocket.rocketcomponent.Rocket;
 import net.sf.openrocket.simulation.SimulationOptions;
 import net.sf.openrocket.simulation.exception.SimulationException;
+import net.sf.openrocket.simulation.listeners.SimulationListener;
 
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class SimulationStepper {
     public static class SimulationResult {
@@ -16,46 +20,86 @@ public class SimulationStepper {
         }
     }
 
+    /**
+     * Point-in-time view of the shared simulation executor
+     */
+    public static class Metrics {
+        public final int queueDepth;          // Simulations waiting for a thread
+        public final int activeSimulations;   // Simulations currently running
+        public final long completed;          // Simulations that finished successfully
+        public final long failed;             // Simulations that threw
+        public final long timedOut;           // Simulations cancelled by the timeout scheduler
+
+        Metrics(int queueDepth, int activeSimulations, long completed, long failed, long timedOut) {
+            this.queueDepth = queueDepth;
+            this.activeSimulations = activeSimulations;
+            this.completed = completed;
+            this.failed = failed;
+            this.timedOut = timedOut;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("queued=%d active=%d completed=%d failed=%d timedOut=%d",
+                    queueDepth, activeSimulations, completed, failed, timedOut);
+        }
+    }
+
+    /**
+     * Thrown when a simulation is cancelled for running past its deadline
+     */
+    public static class SimulationTimeoutException extends SimulationException {
+        private static final long serialVersionUID = 1L;
+
+        public SimulationTimeoutException() {
+            super("Simulation timed out");
+        }
+    }
+
     private final Rocket rocket;
     private final SimulationOptions options;
     private static final long SIMULATION_TIMEOUT_MS = 2000;
 
+    // Long-lived executor shared by all steppers. Submissions are bounded by a semaphore so a
+    // burst of evaluations waits for capacity instead of piling up work.
+    private static final int SIMULATION_THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int MAX_QUEUED_SIMULATIONS = SIMULATION_THREADS * 4;
+    private static final Semaphore SIMULATION_CAPACITY = new Semaphore(SIMULATION_THREADS + MAX_QUEUED_SIMULATIONS);
+    private static final ThreadPoolExecutor SIMULATION_EXECUTOR = new ThreadPoolExecutor(
+            SIMULATION_THREADS, SIMULATION_THREADS, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), daemonThreads("simulation"));
+    // Single scheduler that cancels simulations running past their deadline (replaces a thread per run)
+    private static final ScheduledThreadPoolExecutor TIMEOUT_SCHEDULER = new ScheduledThreadPoolExecutor(1, daemonThreads("simulation-timeout"));
+
+    private static final AtomicLong completedCount = new AtomicLong();
+    private static final AtomicLong failedCount = new AtomicLong();
+    private static final AtomicLong timedOutCount = new AtomicLong();
+
+    static {
+        SIMULATION_EXECUTOR.allowCoreThreadTimeOut(true);
+        TIMEOUT_SCHEDULER.setRemoveOnCancelPolicy(true); // Don't keep cancelled timeouts around until their deadline
+    }
+
     public SimulationStepper(Rocket rocket, SimulationOptions options) {
         this.rocket = rocket;
         this.options = options;
     }
 
-    public SimulationResult runSimulation() throws SimulationException {
+    public static Metrics getMetrics() {
+        return new Metrics(SIMULATION_EXECUTOR.getQueue().size(), SIMULATION_EXECUTOR.getActiveCount(),
+                completedCount.get(), failedCount.get(), timedOutCount.get());
+    }
+
+    /**
+     * @param listeners Extra listeners attached to every attempt, e.g. an {@link EarlyExitListener}
+     */
+    public SimulationResult runSimulation(SimulationListener... listeners) throws SimulationException {
         final int MAX_RETRIES = 2;
         for (int attempt = 0; attempt < MAX_RETRIES; attempt++) {
-            ExecutorService executor = Executors.newSingleThreadExecutor();
             try {
                 Simulation simulation = new Simulation(rocket);
                 simulation.getOptions().copyConditionsFrom(options);
-
-                Future<?> future = executor.submit(() -> {
-                    try {
-                        simulation.simulate();
-                    } catch (SimulationException e) {
-                        throw new RuntimeException(e);
-                    }
-                });
-
-                try {
-                    future.get(SIMULATION_TIMEOUT_MS, TimeUnit.MILLISECONDS);
-                } catch (TimeoutException e) {
-                    future.cancel(true);
-                    throw new SimulationException("Simulation timed out");
-                } catch (ExecutionException e) {
-                    if (e.getCause() instanceof SimulationException) {
-                        throw (SimulationException) e.getCause();
-                    } else {
-                        throw new SimulationException("Simulation failed", e.getCause());
-                    }
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new SimulationException("Simulation interrupted");
-                }
+                simulate(simulation, listeners);
 
                 return new SimulationResult(
                         simulation.getSimulatedData().getMaxAltitude(),
@@ -66,10 +110,98 @@ public class SimulationStepper {
                 try {
                     Thread.sleep(100);
                 } catch (InterruptedException ignored) {}
-            } finally {
-                executor.shutdownNow();
             }
         }
         throw new SimulationException("Max retries exceeded");
     }
-}
\ No newline at end of file
+
+    // Run the simulation on the shared executor and wait for it; the timeout is enforced by the scheduler
+    private static void simulate(Simulation simulation, SimulationListener[] listeners) throws SimulationException {
+        try {
+            SIMULATION_CAPACITY.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SimulationException("Simulation interrupted");
+        }
+
+        TimedSimulation task = new TimedSimulation(simulation, listeners);
+        try {
+            SIMULATION_EXECUTOR.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.releaseSlot();
+            throw new SimulationException("Simulation rejected", e);
+        }
+
+        try {
+            task.get();
+            completedCount.incrementAndGet();
+        } catch (CancellationException e) {
+            throw new SimulationTimeoutException();
+        } catch (ExecutionException e) {
+            failedCount.incrementAndGet();
+            if (e.getCause() instanceof SimulationException) {
+                throw (SimulationException) e.getCause();
+            } else {
+                throw new SimulationException("Simulation failed", e.getCause());
+            }
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new SimulationException("Simulation interrupted");
+        }
+    }
+
+    /**
+     * A simulation run on the shared executor. Its deadline starts when it begins running,
+     * and it holds one capacity slot until its thread has actually finished with it.
+     */
+    private static class TimedSimulation extends FutureTask<Void> {
+        private final AtomicBoolean slotReleased = new AtomicBoolean();
+        private volatile ScheduledFuture<?> timeout;
+
+        TimedSimulation(Simulation simulation, SimulationListener[] listeners) {
+            super(() -> {
+                simulation.simulate(listeners);
+                return null;
+            });
+        }
+
+        @Override
+        public void run() {
+            timeout = TIMEOUT_SCHEDULER.schedule(() -> {
+                if (cancel(true)) {
+                    timedOutCount.incrementAndGet();
+                }
+            }, SIMULATION_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            try {
+                super.run();
+            } finally {
+                timeout.cancel(false);
+                releaseSlot();
+            }
+        }
+
+        @Override
+        protected void done() {
+            // Cancelled before it ever started: no thread will reach run()'s finally block
+            if (isCancelled() && timeout == null) {
+                releaseSlot();
+            }
+        }
+
+        void releaseSlot() {
+            if (slotReleased.compareAndSet(false, true)) {
+                SIMULATION_CAPACITY.release();
+            }
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger index = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + index.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,114 @@
+import net.sf.openrocket.aerodynamics.AerodynamicCalculator;
+import net.sf.openrocket.aerodynamics.BarrowmanCalculator;
+import net.sf.openrocket.aerodynamics.FlightConditions;
+import net.sf.openrocket.logging.WarningSet;
+import net.sf.openrocket.masscalc.MassCalculator;
+import net.sf.openrocket.masscalc.RigidBody;
+import net.sf.openrocket.rocketcomponent.FlightConfiguration;
+import net.sf.openrocket.rocketcomponent.Rocket;
+import net.sf.openrocket.rocketcomponent.RocketComponent;
+import net.sf.openrocket.rocketcomponent.SymmetricComponent;
+import net.sf.openrocket.util.Coordinate;
+
+/**
+ * Static stability (calibers) of one rocket copy, owned by a single {@link RocketWorker}.
+ * The aerodynamic calculator, flight conditions and warning set are created once and reused,
+ * the caliber is computed once (the optimizer never changes body radii), and the center of
+ * pressure is only recomputed after a change that affects the aerodynamics.
+ */
+public class StabilityCalculator {
+    private final Rocket rocket;
+    private final AerodynamicCalculator aeroCalc = new BarrowmanCalculator();
+    private final WarningSet warnings = new WarningSet();
+    private FlightConfiguration flightConfig;
+    private FlightConditions conditions;
+    private double caliber;
+    private Coordinate cachedCP; // null until computed, and after an aerodynamic change
+
+    private long cpComputations = 0;
+    private long cpReuses = 0;
+
+    public StabilityCalculator(Rocket rocket) {
+        this.rocket = rocket;
+        initialize();
+    }
+
+    /**
+     * Set up the per-run state: flight conditions at Mach 0.3 and the rocket's caliber.
+     */
+    public void initialize() {
+        flightConfig = rocket.getSelectedConfiguration();
+        conditions = new FlightConditions(flightConfig);
+        conditions.setMach(0.3);
+        conditions.setAOA(0);
+        conditions.setRollRate(0);
+
+        caliber = 0;
+        for (RocketComponent c : flightConfig.getAllComponents()) {
+            if (c instanceof SymmetricComponent) {
+                SymmetricComponent sym = (SymmetricComponent) c;
+                caliber = Math.max(caliber, Math.max(sym.getForeRadius(), sym.getAftRadius()) * 2);
+            }
+        }
+        cachedCP = null;
+    }
+
+    /**
+     * Whether changing the named optimizer parameter can move the center of pressure.
+     * Nose wall thickness (like the parachute choice) only changes the mass distribution.
+     */
+    public static boolean affectsAerodynamics(String paramName) {
+        return !"noseWallThickness".equals(paramName);
+    }
+
+    /**
+     * Drop the cached center of pressure; call after any change that affects the aerodynamics
+     */
+    public void invalidateAerodynamics() {
+        cachedCP = null;
+    }
+
+    /**
+     * @return Stability in calibers, or NaN if the CP or caliber is invalid
+     * @throws RuntimeException if the CG is invalid
+     */
+    public double calculate() {
+        RigidBody launchData = MassCalculator.calculateLaunch(flightConfig);
+        Coordinate cg = launchData.getCM();
+        if (cg.weight <= 1e-9) {
+            throw new RuntimeException("Invalid CG");
+        }
+
+        Coordinate cp = cachedCP;
+        if (cp == null) {
+            warnings.clear();
+            cp = aeroCalc.getWorstCP(flightConfig, conditions, warnings);
+            cpComputations++;
+            // Return NaN if CP calculation failed
+            if (cp.weight <= 1e-9) {
+                return Double.NaN;
+            }
+            cachedCP = cp;
+        } else {
+            cpReuses++;
+        }
+
+        // Return NaN if caliber calculation fails
+        if (caliber <= 1e-9) {
+            return Double.NaN;
+        }
+        return (cp.x - cg.x) / caliber;
+    }
+
+    public double getCaliber() {
+        return caliber;
+    }
+
+    public long getCpComputations() {
+        return cpComputations;
+    }
+
+    public long getCpReuses() {
+        return cpReuses;
+    }
+}
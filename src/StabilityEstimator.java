@@ -0,0 +1,250 @@
+import net.sf.openrocket.masscalc.MassCalculator;
+import net.sf.openrocket.preset.ComponentPreset;
+import net.sf.openrocket.rocketcomponent.*;
+import net.sf.openrocket.util.Coordinate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cheap surrogate for the static stability of a candidate, used to reject clearly infeasible
+ * points before a worker applies them and runs the full mass and aerodynamic calculation.
+ *
+ * The center of pressure comes from closed-form Barrowman terms for the nose and the
+ * elliptical fins. The CG is updated incrementally from the baseline design by scaling the
+ * fin, nose and parachute masses. The model is calibrated against the full calculation at
+ * the baseline, and a point is only rejected when the estimate lies outside the allowed
+ * range by more than a safety margin. The margin widens whenever a fully evaluated point
+ * shows a larger estimation error.
+ */
+public class StabilityEstimator {
+    private static final double BASE_MARGIN = 0.5;    // Calibers
+    private static final double ERROR_FACTOR = 2.0;   // Margin is at least this many times the worst observed error
+    private static final int VALIDATION_WARMUP = 10;  // Full evaluations to compare against before rejecting anything
+    private static final double ELLIPTICAL_CP_FRACTION = 0.288; // Quarter MAC of an elliptical planform, as a fraction of root chord
+
+    private final Optimizer.OptimizationConfig config;
+    private final int thicknessIndex, rootChordIndex, heightIndex, finCountIndex, noseLengthIndex, noseWallIndex;
+    private final double[] baseline; // Raw parameter values of the calibration design
+
+    // Baseline geometry and mass properties (SI units, absolute x from the nose tip)
+    private final double caliber;
+    private final double finBodyRadius;
+    private final double finLeadingEdge0, finTrailingEdge0;
+    private final boolean finTrailingEdgeFixed; // Fins aligned to the aft end of their body tube
+    private final double finMass0;
+    private final double noseMass0, noseCgFraction, noseCpFraction, noseBaseRadius;
+    private final double restMass, restCg; // Everything except fins, nose and parachutes
+    private final ChuteTerm stage1Chute, stage2Chute;
+    private final double cpOffset; // Full-model CP minus closed-form CP at the baseline
+
+    private double maxObservedError = 0;
+    private int validations = 0;
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Calibrate the estimator on a rocket that still holds its original design.
+     * @param baselineStability Stability (calibers) of that design from the full calculation
+     */
+    public StabilityEstimator(Rocket rocket, List<Optimizer.FinParameter> parameters, double[] baselineValues,
+                              double baselineStability, double caliber, Optimizer.OptimizationConfig config) {
+        this.config = config;
+        this.baseline = baselineValues.clone();
+        this.caliber = caliber;
+        thicknessIndex = indexOf(parameters, "thickness");
+        rootChordIndex = indexOf(parameters, "rootChord");
+        heightIndex = indexOf(parameters, "height");
+        finCountIndex = indexOf(parameters, "finCount");
+        noseLengthIndex = indexOf(parameters, "noseLength");
+        noseWallIndex = indexOf(parameters, "noseWallThickness");
+
+        EllipticalFinSet fins = Optimizer.findLastEllipticalFinSet(rocket);
+        NoseCone noseCone = Optimizer.findNoseCone(rocket);
+        RocketComponent finParent = fins.getParent();
+        finBodyRadius = finParent instanceof SymmetricComponent ? ((SymmetricComponent) finParent).getAftRadius() : caliber / 2;
+        finLeadingEdge0 = fins.toAbsolute(Coordinate.NUL)[0].x;
+        finTrailingEdge0 = finLeadingEdge0 + fins.getLength();
+        double parentAft = finParent.toAbsolute(new Coordinate(finParent.getLength()))[0].x;
+        finTrailingEdgeFixed = Math.abs(finTrailingEdge0 - parentAft) < 1e-6;
+        finMass0 = fins.getComponentMass();
+
+        noseMass0 = noseCone.getComponentMass();
+        noseCgFraction = noseCone.getComponentCG().x / noseCone.getLength();
+        noseCpFraction = noseCpFraction(noseCone.getShapeType());
+        noseBaseRadius = noseCone.getBaseRadius();
+
+        stage1Chute = ChuteTerm.of(Optimizer.findFirstParachute(rocket), "Stage 1 Parachute");
+        stage2Chute = ChuteTerm.of(Optimizer.findSecondParachute(rocket), "Stage 2 Parachute");
+
+        Coordinate cg = MassCalculator.calculateLaunch(rocket.getSelectedConfiguration()).getCM();
+        double moment = cg.weight * cg.x - finMass0 * (finLeadingEdge0 + fins.getLength() / 2)
+                - noseMass0 * noseCgFraction * noseCone.getLength()
+                - stage1Chute.moment() - stage2Chute.moment();
+        restMass = cg.weight - finMass0 - noseMass0 - stage1Chute.mass0 - stage2Chute.mass0;
+        restCg = restMass > 1e-9 ? moment / restMass : cg.x;
+
+        double cp = cg.x + baselineStability * caliber;
+        cpOffset = cp - closedFormCp(baseline);
+    }
+
+    /**
+     * Estimate the stability of a candidate in calibers.
+     * @param rawValues Raw (cm / count) values for every optimizer parameter, in parameter order
+     */
+    public double estimate(double[] rawValues, int stage1Id, int stage2Id) {
+        double noseShift = (value(rawValues, noseLengthIndex) - value(baseline, noseLengthIndex)) / 100;
+        double noseLength = value(rawValues, noseLengthIndex) / 100;
+
+        // Fin mass scales with planform area (pi/4 * chord * span), thickness and count
+        double finMass = finMass0 * ratio(rawValues, rootChordIndex) * ratio(rawValues, heightIndex)
+                * ratio(rawValues, thicknessIndex) * ratio(rawValues, finCountIndex);
+        double finLeadingEdge = finLeadingEdge(rawValues) + noseShift;
+        double finCg = finLeadingEdge + value(rawValues, rootChordIndex) / 200;
+
+        // Thin-walled nose: mass scales with lateral (cone) surface area and wall thickness
+        double noseMass = noseMass0 * coneArea(noseLength) / coneArea(value(baseline, noseLengthIndex) / 100)
+                * ratio(rawValues, noseWallIndex);
+        double noseCg = noseCgFraction * noseLength;
+
+        double mass = restMass + finMass + noseMass;
+        double moment = restMass * (restCg + noseShift) + finMass * finCg + noseMass * noseCg;
+        for (ChuteTerm chute : new ChuteTerm[]{stage1Chute, stage2Chute}) {
+            double chuteMass = chute.mass(chute == stage1Chute ? stage1Id : stage2Id, config);
+            mass += chuteMass;
+            moment += chuteMass * (chute.x + noseShift);
+        }
+        double cg = moment / mass;
+
+        double cp = closedFormCp(rawValues) + cpOffset;
+        return (cp - cg) / caliber;
+    }
+
+    /**
+     * Whether the candidate is so far outside the stability range that simulating it is pointless.
+     * @return The estimated stability if the point should be rejected, or NaN if it must be fully evaluated
+     */
+    public double screen(double[] rawValues, int stage1Id, int stage2Id) {
+        double margin;
+        synchronized (this) {
+            if (validations < VALIDATION_WARMUP) return Double.NaN;
+            margin = Math.max(BASE_MARGIN, ERROR_FACTOR * maxObservedError);
+        }
+        double estimate = estimate(rawValues, stage1Id, stage2Id);
+        if (Double.isNaN(estimate) || Double.isInfinite(estimate)) return Double.NaN;
+        if (estimate < config.stabilityRange[0] - margin || estimate > config.stabilityRange[1] + margin) {
+            rejected.incrementAndGet();
+            return estimate;
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Compare the estimate with a fully calculated stability, widening the margin if needed
+     */
+    public void observe(double[] rawValues, int stage1Id, int stage2Id, double actualStability) {
+        if (Double.isNaN(actualStability)) return;
+        double error = Math.abs(estimate(rawValues, stage1Id, stage2Id) - actualStability);
+        if (Double.isNaN(error)) return;
+        synchronized (this) {
+            maxObservedError = Math.max(maxObservedError, error);
+            validations++;
+        }
+    }
+
+    public long getSavedEvaluations() {
+        return rejected.get();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d simulations skipped, max estimation error %.3f cal over %d checks",
+                rejected.get(), maxObservedError, validations);
+    }
+
+    // Barrowman CP of nose plus fins (the body tube contributes no normal force at zero AoA)
+    private double closedFormCp(double[] rawValues) {
+        double noseLength = value(rawValues, noseLengthIndex) / 100;
+        double noseShift = noseLength - value(baseline, noseLengthIndex) / 100;
+        double rootChord = value(rawValues, rootChordIndex) / 100;
+        double span = value(rawValues, heightIndex) / 100;
+        double finCount = value(rawValues, finCountIndex);
+
+        double noseCna = 2.0;
+        double noseX = noseCpFraction * noseLength;
+
+        double interference = 1 + finBodyRadius / (span + finBodyRadius);
+        double midChordSpan = span; // The mid-chord line of an elliptical fin is perpendicular to the body
+        double finCna = interference * 4 * finCount * Math.pow(span / caliber, 2)
+                / (1 + Math.sqrt(1 + Math.pow(2 * midChordSpan / rootChord, 2)));
+        double finX = finLeadingEdge(rawValues) + noseShift + ELLIPTICAL_CP_FRACTION * rootChord;
+
+        return (noseCna * noseX + finCna * finX) / (noseCna + finCna);
+    }
+
+    // Leading edge before any nose length shift, honoring which fin edge stays put when the chord changes
+    private double finLeadingEdge(double[] rawValues) {
+        if (!finTrailingEdgeFixed) return finLeadingEdge0;
+        return finTrailingEdge0 - value(rawValues, rootChordIndex) / 100;
+    }
+
+    private double coneArea(double length) {
+        return noseBaseRadius * Math.sqrt(length * length + noseBaseRadius * noseBaseRadius);
+    }
+
+    private double ratio(double[] rawValues, int index) {
+        if (index < 0 || baseline[index] <= 0) return 1.0;
+        return rawValues[index] / baseline[index];
+    }
+
+    private double value(double[] rawValues, int index) {
+        return index < 0 ? 0 : rawValues[index];
+    }
+
+    private static int indexOf(List<Optimizer.FinParameter> parameters, String name) {
+        for (int i = 0; i < parameters.size(); i++) {
+            if (parameters.get(i).name.equals(name)) return i;
+        }
+        return -1;
+    }
+
+    // Barrowman nose CP locations as a fraction of nose length
+    private static double noseCpFraction(Transition.Shape shape) {
+        if (shape == null) return 0.5;
+        switch (shape) {
+            case CONICAL: return 0.666;
+            case OGIVE: return 0.466;
+            case ELLIPSOID: return 0.333;
+            default: return 0.5;
+        }
+    }
+
+    // Mass contribution of one (optional) parachute, which the optimizer may swap for a preset
+    private static final class ChuteTerm {
+        final String enabledKey;
+        final double mass0;
+        final double x;
+
+        ChuteTerm(String enabledKey, double mass0, double x) {
+            this.enabledKey = enabledKey;
+            this.mass0 = mass0;
+            this.x = x;
+        }
+
+        static ChuteTerm of(Parachute chute, String enabledKey) {
+            if (chute == null) return new ChuteTerm(enabledKey, 0, 0);
+            Coordinate cg = chute.getComponentCG();
+            return new ChuteTerm(enabledKey, chute.getComponentMass(), chute.toAbsolute(cg)[0].x);
+        }
+
+        double moment() {
+            return mass0 * x;
+        }
+
+        double mass(int presetId, Optimizer.OptimizationConfig config) {
+            if (mass0 <= 0 || !config.enabledParams.getOrDefault(enabledKey, true)) return mass0;
+            ComponentPreset preset = ParachuteRegistry.get().getPreset(presetId);
+            if (preset == null || !preset.has(ComponentPreset.MASS)) return mass0;
+            return preset.get(ComponentPreset.MASS);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EvaluationCacheTest {
+    // Keys whose low bits agree share a home slot, so they form one probe run that deletion has to repair
+    private static long collidingKey(int homeSlot, int n) {
+        return ((long) n << 32) | homeSlot;
+    }
+
+    private static EvaluationOutcome outcomeFor(long key) {
+        double seed = (key >>> 32) + (key & 0xFF) / 256.0;
+        return key % 3 == 0 ? EvaluationOutcome.abandoned(seed, 100 + seed) : EvaluationOutcome.simulated(seed, 10 * seed, 20 * seed);
+    }
+
+    private static void assertSameOutcome(EvaluationOutcome expected, EvaluationOutcome actual) {
+        assertNotNull(actual);
+        assertEquals(expected.status, actual.status);
+        assertEquals(expected.stability, actual.stability);
+        if (expected.status == EvaluationOutcome.Status.ABANDONED) {
+            assertEquals(expected.errorBound, actual.errorBound);
+        } else {
+            assertEquals(expected.apogee, actual.apogee);
+            assertEquals(expected.duration, actual.duration);
+        }
+    }
+
+    @Test
+    void returnsWhatWasPut() {
+        EvaluationCache cache = new EvaluationCache(16);
+        EvaluationOutcome simulated = EvaluationOutcome.simulated(1.5, 250.0, 40.0);
+        EvaluationOutcome abandoned = EvaluationOutcome.abandoned(1.2, 312.5);
+        cache.put(1, simulated);
+        cache.put(2, abandoned);
+
+        assertSameOutcome(simulated, cache.get(1));
+        assertSameOutcome(abandoned, cache.get(2));
+        assertNull(cache.get(3));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void doesNotCacheTransientFailures() {
+        EvaluationCache cache = new EvaluationCache(16);
+        cache.put(1, EvaluationOutcome.failed(EvaluationOutcome.Status.SIMULATION_FAILED, 1.0, "Timed out"));
+        cache.put(2, EvaluationOutcome.failed(EvaluationOutcome.Status.ERROR, Double.NaN, "Eval Error"));
+        assertNull(cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void evictsUnreferencedEntriesFirst() {
+        EvaluationCache cache = new EvaluationCache(4);
+        for (long key = 1; key <= 4; key++) {
+            cache.put(key, outcomeFor(key));
+        }
+        // The first sweep clears every reference bit and evicts the oldest; key 2 is then used again
+        cache.put(5, outcomeFor(5));
+        assertNull(cache.get(1));
+        assertNotNull(cache.get(2));
+        cache.put(6, outcomeFor(6));
+
+        assertNull(cache.get(3));
+        for (long key : new long[]{2, 4, 5, 6}) {
+            assertSameOutcome(outcomeFor(key), cache.get(key));
+        }
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    void keepsCollidingKeysReachableAcrossDeletions() {
+        // Capacity 8 for 4 entries: a single probe run, shifted back on every eviction
+        EvaluationCache cache = new EvaluationCache(4);
+        Map<Long, EvaluationOutcome> put = new HashMap<>();
+        for (int n = 0; n < 40; n++) {
+            long key = collidingKey(n % 2 == 0 ? 7 : 0, n); // The run wraps past the end of the table
+            EvaluationOutcome outcome = outcomeFor(key);
+            cache.put(key, outcome);
+            put.put(key, outcome);
+
+            int found = 0;
+            for (Map.Entry<Long, EvaluationOutcome> e : put.entrySet()) {
+                EvaluationOutcome cached = cache.get(e.getKey());
+                if (cached != null) {
+                    assertSameOutcome(e.getValue(), cached);
+                    found++;
+                }
+            }
+            assertEquals(Math.min(n + 1, 4), found);
+            assertEquals(found, cache.size());
+            assertSameOutcome(outcome, cache.get(key));
+        }
+    }
+
+    @Test
+    void matchesEveryEntryAfterRandomEvictions() {
+        Random random = new Random(42);
+        EvaluationCache cache = new EvaluationCache(64);
+        Map<Long, EvaluationOutcome> put = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            // Few distinct home slots, so most deletions move entries
+            long key = collidingKey(random.nextInt(16), random.nextInt(400));
+            if (random.nextBoolean()) {
+                EvaluationOutcome cached = cache.get(key);
+                if (cached != null) {
+                    assertSameOutcome(put.get(key), cached);
+                }
+            } else {
+                EvaluationOutcome outcome = outcomeFor(key);
+                cache.put(key, outcome);
+                put.put(key, outcome);
+                assertSameOutcome(outcome, cache.get(key));
+            }
+            assertTrue(cache.size() <= 64);
+        }
+
+        int found = 0;
+        for (Map.Entry<Long, EvaluationOutcome> e : put.entrySet()) {
+            EvaluationOutcome cached = cache.get(e.getKey());
+            if (cached != null) {
+                assertSameOutcome(e.getValue(), cached);
+                found++;
+            }
+        }
+        assertEquals(cache.size(), found);
+    }
+}
@@ -0,0 +1,81 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMaxNanos());
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 0; v < 8; v++) {
+            histogram.record(v);
+        }
+        assertEquals(3, histogram.getValueAtPercentile(50));
+        assertEquals(7, histogram.getValueAtPercentile(100));
+        assertEquals(3.5, histogram.getMeanNanos());
+    }
+
+    @Test
+    void bucketsAreWithinAnEighthOfTheValue() {
+        Random random = new Random(7);
+        for (int i = 0; i < 10000; i++) {
+            long value = i < 64 ? 1L << (i % 44) : (long) Math.exp(random.nextDouble() * Math.log(1L << 44));
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+            histogram.record(Long.MAX_VALUE / 2); // Keeps the maximum from capping the first value's bucket
+            long reported = histogram.getValueAtPercentile(50);
+            assertTrue(reported >= value, value + " reported as " + reported);
+            assertTrue(reported <= value + value / 8, value + " reported as " + reported);
+        }
+    }
+
+    @Test
+    void percentilesFollowRank() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 1000; v++) {
+            histogram.record(v * 1000);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500_500.0, histogram.getMeanNanos());
+        assertBetween(500_000, histogram.getValueAtPercentile(50));
+        assertBetween(990_000, histogram.getValueAtPercentile(99));
+        assertBetween(1_000, histogram.getValueAtPercentile(0));
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100)); // Capped at the maximum
+    }
+
+    @Test
+    void clampsOutOfRangeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(0, histogram.getValueAtPercentile(100));
+
+        histogram.record(1L << 50);
+        assertEquals(1L << 50, histogram.getMaxNanos());
+        assertTrue(histogram.getValueAtPercentile(100) >= 1L << 44);
+    }
+
+    @Test
+    void resetClearsEverything() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(12_345);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    private static void assertBetween(long expected, long reported) {
+        assertTrue(reported >= expected && reported <= expected + expected / 8, expected + " reported as " + reported);
+    }
+}
@@ -0,0 +1,126 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the pool against {@link StandInRemoteWorker} processes on localhost
+ */
+@Timeout(120)
+class RemoteWorkerPoolTest {
+    @TempDir
+    File tempDir;
+
+    private RemoteWorkerPool pool;
+
+    @AfterEach
+    void shutdown() {
+        if (pool != null) pool.shutdown();
+    }
+
+    private RemoteWorkerPool start(int workers, String design) throws IOException {
+        Optimizer.OptimizationConfig config = new Optimizer.OptimizationConfig();
+        config.stabilityRange = new double[]{1.0, 2.0};
+        config.remoteTimeoutSeconds = 2;
+        pool = RemoteWorkerPool.start(new File(tempDir, design), config, workers,
+                StandInRemoteWorker.class.getName(), StandInRemoteWorker.PRESETS);
+        return pool;
+    }
+
+    private static EvaluationOutcome evaluate(RemoteWorkerPool pool, double value) throws InterruptedException {
+        return pool.evaluate(new double[]{value, 0.2}, 1, 2, Double.MAX_VALUE, Fidelity.FULL);
+    }
+
+    @Test
+    void evaluatesConcurrentlyOnEveryWorker() throws Exception {
+        RemoteWorkerPool pool = start(3, "marker");
+        assertEquals(3, pool.getWorkerCount());
+
+        ExecutorService callers = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<EvaluationOutcome>> outcomes = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                double value = i;
+                outcomes.add(callers.submit(() -> evaluate(pool, value)));
+            }
+            for (int i = 0; i < outcomes.size(); i++) {
+                EvaluationOutcome outcome = outcomes.get(i).get();
+                assertEquals(EvaluationOutcome.Status.OK, outcome.status);
+                assertEquals(10.0 * i, outcome.apogee);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertEquals(30, pool.getSimulations());
+        assertEquals(3, pool.getLiveWorkerCount());
+    }
+
+    @Test
+    void requeuesCandidateWhenWorkerDiesMidEvaluation() throws Exception {
+        RemoteWorkerPool pool = start(2, "marker");
+
+        EvaluationOutcome outcome = evaluate(pool, StandInRemoteWorker.CRASH_ONCE);
+        assertEquals(EvaluationOutcome.Status.OK, outcome.status);
+        assertEquals(1, pool.getLiveWorkerCount());
+
+        assertEquals(EvaluationOutcome.Status.OK, evaluate(pool, 4.0).status);
+    }
+
+    @Test
+    void requeuesCandidateWhenWorkerHangs() throws Exception {
+        RemoteWorkerPool pool = start(2, "marker");
+
+        EvaluationOutcome outcome = evaluate(pool, StandInRemoteWorker.HANG_ONCE);
+        assertEquals(EvaluationOutcome.Status.OK, outcome.status);
+        assertEquals(1, pool.getLiveWorkerCount());
+    }
+
+    @Test
+    void failsCandidateThatKeepsKillingWorkers() throws Exception {
+        RemoteWorkerPool pool = start(4, "marker");
+
+        EvaluationOutcome outcome = evaluate(pool, StandInRemoteWorker.CRASH);
+        assertEquals(EvaluationOutcome.Status.ERROR, outcome.status);
+        // One retry, then the candidate fails and the remaining workers keep going
+        assertEquals(2, pool.getLiveWorkerCount());
+        assertEquals(EvaluationOutcome.Status.OK, evaluate(pool, 5.0).status);
+    }
+
+    @Test
+    void failsOnceEveryWorkerIsLost() throws Exception {
+        RemoteWorkerPool pool = start(1, "marker");
+
+        assertEquals(EvaluationOutcome.Status.ERROR, evaluate(pool, StandInRemoteWorker.CRASH).status);
+        assertEquals(0, pool.getLiveWorkerCount());
+        EvaluationOutcome outcome = evaluate(pool, 1.0);
+        assertEquals(EvaluationOutcome.Status.ERROR, outcome.status);
+        assertTrue(outcome.message.contains("All worker processes were lost"));
+    }
+
+    @Test
+    void dropsWorkersThatFailTheHandshake() {
+        IOException e = assertThrows(IOException.class, () -> start(2, "design.bad"));
+        assertTrue(e.getMessage().contains("Refusing design.bad"), e.getMessage());
+    }
+
+    @Test
+    void rejectsWorkersWithAnotherPresetDatabase() {
+        Optimizer.OptimizationConfig config = new Optimizer.OptimizationConfig();
+        config.stabilityRange = new double[]{1.0, 2.0};
+        IOException e = assertThrows(IOException.class, () -> RemoteWorkerPool.start(new File(tempDir, "marker"),
+                config, 1, StandInRemoteWorker.class.getName(), StandInRemoteWorker.PRESETS + 1));
+        assertTrue(e.getMessage().contains("parachute presets"), e.getMessage());
+    }
+}
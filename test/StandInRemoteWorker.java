@@ -0,0 +1,87 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * Worker process for {@link RemoteWorkerPoolTest}: speaks the {@link RemoteWorker} protocol
+ * without OpenRocket. A candidate's first raw value says what to do with it:
+ * <ul>
+ * <li>{@link #CRASH}: exit in the middle of the evaluation.</li>
+ * <li>{@link #CRASH_ONCE}: exit unless another worker has already crashed on it.</li>
+ * <li>{@link #HANG_ONCE}: never answer, unless another worker has already hung on it.</li>
+ * <li>Anything else: succeed with an apogee of ten times the value.</li>
+ * </ul>
+ * The design path of the handshake is used as a marker file shared by the workers, and a
+ * design path ending in ".bad" is refused.
+ */
+public class StandInRemoteWorker {
+    static final double CRASH = -1;
+    static final double CRASH_ONCE = -2;
+    static final double HANG_ONCE = -3;
+    static final int PRESETS = 7;
+
+    public static void main(String[] args) throws Exception {
+        try (Socket socket = new Socket(args[0], Integer.parseInt(args[1]))) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            serve(in, out);
+        } catch (EOFException e) {
+            // The pool closed the connection
+        }
+        System.exit(0);
+    }
+
+    private static void serve(DataInputStream in, DataOutputStream out) throws Exception {
+        if (in.readInt() != RemoteWorker.MAGIC || in.readInt() != RemoteWorker.VERSION) {
+            throw new IOException("Protocol mismatch");
+        }
+        File marker = new File(in.readUTF());
+        RemoteWorker.readConfig(in, new Optimizer.OptimizationConfig());
+        out.writeLong(ProcessHandle.current().pid());
+        if (marker.getName().endsWith(".bad")) {
+            out.writeBoolean(false);
+            out.writeUTF("Refusing " + marker.getName());
+            out.flush();
+            return;
+        }
+        out.writeBoolean(true);
+        out.writeInt(PRESETS);
+        out.flush();
+
+        long simulations = 0;
+        while (in.readByte() == RemoteWorker.EVALUATE) {
+            double[] rawValues = new double[in.readInt()];
+            for (int i = 0; i < rawValues.length; i++) {
+                rawValues[i] = in.readDouble();
+            }
+            in.readInt();    // Stage 1 parachute
+            in.readInt();    // Stage 2 parachute
+            in.readDouble(); // Abandon threshold
+            in.readByte();   // Fidelity
+
+            double value = rawValues[0];
+            if (value == CRASH || (value == CRASH_ONCE && marker.createNewFile())) {
+                Runtime.getRuntime().halt(1);
+            }
+            if (value == HANG_ONCE && marker.createNewFile()) {
+                Thread.sleep(Long.MAX_VALUE);
+            }
+            simulations++;
+            out.writeByte(EvaluationOutcome.Status.OK.ordinal());
+            out.writeDouble(1.5);
+            out.writeDouble(value * 10);
+            out.writeDouble(30.0);
+            out.writeDouble(Double.NaN);
+            out.writeUTF("");
+            out.writeLong(simulations);
+            out.writeLong(0);
+            out.writeDouble(0);
+            out.flush();
+        }
+    }
+}